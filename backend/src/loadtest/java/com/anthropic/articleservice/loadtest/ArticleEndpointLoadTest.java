@@ -0,0 +1,163 @@
+package com.anthropic.articleservice.loadtest;
+
+import com.anthropic.articleservice.loadtest.LoadGenerator.Target;
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.Article.Section;
+import com.anthropic.articleservice.repository.ArticleRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Replays a Zipf-distributed mix of article reads against a locally
+ * started service and checks the results against stored thresholds.
+ *
+ * <p>The service is seeded with {@code loadtest.articles} synthetic
+ * articles. Requests are split between the listing, lookups of existing
+ * articles (popularity follows a Zipf law with exponent
+ * {@code loadtest.zipf-exponent}) and lookups of ids that don't exist,
+ * weighted by {@code loadtest.mix}. Allocation per request is read from the
+ * server's {@code http.server.requests.allocated} summaries, which need
+ * platform request threads.</p>
+ *
+ * <p>The run fails when any limit in {@code loadtest.thresholds} (default
+ * {@code loadtest/thresholds.properties}) is exceeded, with throughput and
+ * latency limits scaled to this machine's {@link CpuCalibration} score
+ * (see {@link LoadThresholds}). The loadtest profile runs it in the
+ * {@code verify} phase, so a violation fails the build:</p>
+ *
+ * <pre>
+ * mvn -Ploadtest verify
+ * </pre>
+ */
+public final class ArticleEndpointLoadTest {
+
+    private static final String ALLOCATION_METRIC = "http.server.requests.allocated";
+
+    private ArticleEndpointLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+        int articleCount = Integer.getInteger("loadtest.articles", 1000);
+        double exponent = Double.parseDouble(System.getProperty("loadtest.zipf-exponent", "1.0"));
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix", "list=2,get=88,missing=10"));
+        Path thresholdsFile = Path.of(System.getProperty("loadtest.thresholds", "loadtest/thresholds.properties"));
+
+        LoadThresholds thresholds = Files.exists(thresholdsFile) ? LoadThresholds.load(thresholdsFile) : null;
+
+        try (LocalService service = LocalService.start(Map.of(), Duration.ZERO)) {
+            List<String> ids = seed(service.bean(ArticleRepository.class), articleCount);
+            Supplier<Target> targets = targets(ids, new ZipfSampler(ids.size(), exponent), mix);
+            LoadGenerator generator = new LoadGenerator(service.baseUri());
+            MeterRegistry registry = service.bean(MeterRegistry.class);
+
+            generator.run(concurrency, Duration.ZERO, warmup, targets);
+            Allocation before = Allocation.read(registry);
+            LoadResult result = generator.run(concurrency, Duration.ZERO, duration, targets);
+            OptionalDouble allocatedPerRequest = Allocation.read(registry).bytesPerRequestSince(before);
+
+            System.out.printf("%nconcurrency=%d articles=%d zipf=%.2f mix=%s%n", concurrency, ids.size(), exponent, mix);
+            System.out.println(result.summary());
+            System.out.println(allocatedPerRequest.isPresent()
+                ? String.format("allocated %,.0f bytes/request", allocatedPerRequest.getAsDouble())
+                : "allocated n/a (allocation counter unavailable on request threads)");
+
+            if (thresholds == null) {
+                System.out.println("No thresholds at " + thresholdsFile.toAbsolutePath() + ", not checked");
+                return;
+            }
+            double calibrationOps = CpuCalibration.opsPerSecond();
+            double speed = thresholds.speed(calibrationOps);
+            System.out.printf("calibration %,.0f ops/s, timing limits scaled by %.2f%n", calibrationOps, speed);
+            List<String> violations = thresholds.violations(result, allocatedPerRequest, speed);
+            if (!violations.isEmpty()) {
+                throw new IllegalStateException("Load test failed thresholds in " + thresholdsFile + ":\n  "
+                    + String.join("\n  ", violations));
+            }
+            System.out.println("Within thresholds in " + thresholdsFile);
+        }
+    }
+
+    private static List<String> seed(ArticleRepository repository, int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = String.format("load-%05d", i);
+            List<Section> sections = new ArrayList<>();
+            for (int s = 0; s < 8; s++) {
+                sections.add(Section.heading("Section " + s));
+                sections.add(Section.paragraph(("Paragraph " + s + " of " + id + ". ").repeat(20)));
+            }
+            articles.add(new Article(id, "Load article " + i, "Synthetic article for load tests", "2024-01-01",
+                "Research", "Synthetic excerpt " + i, "Load Generator", "Harness", null, null, 4,
+                List.of("load", "test"), sections));
+        }
+        repository.saveAll(articles);
+        return articles.stream().map(Article::id).toList();
+    }
+
+    /**
+     * Draws requests by weight; existing ids are ranked by Zipf popularity
+     * and misses use ids that are never stored.
+     */
+    private static Supplier<Target> targets(List<String> ids, ZipfSampler popularity, Map<String, Integer> mix) {
+        int list = mix.getOrDefault("list", 0);
+        int get = mix.getOrDefault("get", 0);
+        int total = list + get + mix.getOrDefault("missing", 0);
+        if (total <= 0) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights");
+        }
+        return () -> {
+            int pick = ThreadLocalRandom.current().nextInt(total);
+            if (pick < list) {
+                return new Target("api/articles", status -> status == 200);
+            }
+            if (pick < list + get) {
+                return new Target("api/articles/" + ids.get(popularity.next()), status -> status == 200);
+            }
+            return new Target("api/articles/missing-" + popularity.next(), status -> status == 404);
+        };
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.split("=", 2);
+            String name = pair[0].trim();
+            if (!List.of("list", "get", "missing").contains(name) || pair.length != 2) {
+                throw new IllegalArgumentException("Bad loadtest.mix entry '" + part + "', expected list|get|missing=<weight>");
+            }
+            weights.put(name, Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private record Allocation(long count, double totalBytes) {
+
+        static Allocation read(MeterRegistry registry) {
+            long count = 0;
+            double total = 0;
+            for (DistributionSummary summary : registry.find(ALLOCATION_METRIC).summaries()) {
+                count += summary.count();
+                total += summary.totalAmount();
+            }
+            return new Allocation(count, total);
+        }
+
+        OptionalDouble bytesPerRequestSince(Allocation before) {
+            long requests = count - before.count;
+            return requests > 0 ? OptionalDouble.of((totalBytes - before.totalBytes) / requests) : OptionalDouble.empty();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.anthropic.articleservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Scores the single-thread speed of the machine a load run is on, so
+ * timing limits recorded on one machine can be scaled to another. The
+ * workload is the read path's own CPU work: serializing an article-sized
+ * JSON document and gzipping it.
+ */
+final class CpuCalibration {
+
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURE = Duration.ofSeconds(3);
+
+    // Keeps the JIT from discarding the work
+    private static volatile long sink;
+
+    private CpuCalibration() {}
+
+    /**
+     * @return serialize-and-gzip operations per second on one thread
+     */
+    static double opsPerSecond() {
+        ObjectMapper mapper = new ObjectMapper();
+        Object document = document();
+        run(mapper, document, WARMUP);
+        return run(mapper, document, MEASURE) / (MEASURE.toNanos() / 1e9);
+    }
+
+    private static long run(ObjectMapper mapper, Object document, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long ops = 0;
+        long bytes = 0;
+        while (System.nanoTime() < deadline) {
+            bytes += gzip(serialize(mapper, document)).length;
+            ops++;
+        }
+        sink = bytes;
+        return ops;
+    }
+
+    private static Object document() {
+        List<Map<String, String>> sections = new ArrayList<>();
+        for (int s = 0; s < 8; s++) {
+            sections.add(Map.of("type", "heading", "heading", "Section " + s));
+            sections.add(Map.of("type", "paragraph", "content", ("Paragraph " + s + " of a calibration article. ").repeat(20)));
+        }
+        return Map.of("id", "calibration", "title", "Calibration article", "sections", sections);
+    }
+
+    private static byte[] serialize(ObjectMapper mapper, Object document) {
+        try {
+            return mapper.writeValueAsBytes(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
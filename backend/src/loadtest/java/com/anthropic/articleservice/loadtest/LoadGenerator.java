@@ -0,0 +1,120 @@
+package com.anthropic.articleservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator. Each worker runs on its own virtual
+ * thread and keeps exactly one request in flight, so offered load rises
+ * with concurrency until the service saturates.
+ */
+public final class LoadGenerator {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final URI baseUri;
+    private final HttpClient client;
+
+    public LoadGenerator(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    /**
+     * A request path and the response statuses that count as success for it.
+     */
+    public record Target(String path, IntPredicate expectedStatus) {}
+
+    /**
+     * Runs {@code concurrency} workers for {@code warmup + duration}, only
+     * recording requests issued after the warm-up. Responses whose status
+     * fails {@code expectedStatus} count as errors.
+     */
+    public LoadResult run(int concurrency, Duration warmup, Duration duration,
+                          Supplier<String> paths, IntPredicate expectedStatus) throws InterruptedException {
+        return run(concurrency, warmup, duration, () -> new Target(paths.get(), expectedStatus));
+    }
+
+    /**
+     * Like {@link #run(int, Duration, Duration, Supplier, IntPredicate)}, for
+     * a mix of requests that each carry their own expected status.
+     */
+    public LoadResult run(int concurrency, Duration warmup, Duration duration,
+                          Supplier<Target> targets) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        List<Future<Worker>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> new Worker().run(targets, measureFrom, deadline)));
+            }
+        }
+
+        Histogram latencies = new Histogram(MAX_LATENCY_NANOS, 3);
+        long errors = 0;
+        for (Future<Worker> future : workers) {
+            try {
+                Worker worker = future.get();
+                latencies.add(worker.latencies);
+                errors += worker.errors;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load worker failed", e.getCause());
+            }
+        }
+        return LoadResult.of(latencies, errors, duration.toNanos() / 1e9);
+    }
+
+    private final class Worker {
+        final Histogram latencies = new Histogram(MAX_LATENCY_NANOS, 3);
+        long errors;
+
+        Worker run(Supplier<Target> targets, long measureFrom, long deadline) {
+            long now;
+            while ((now = System.nanoTime()) < deadline) {
+                Target target = targets.get();
+                HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(target.path()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+                boolean ok;
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    ok = target.expectedStatus().test(response.statusCode());
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return this;
+                }
+                if (now >= measureFrom) {
+                    latencies.recordValue(Math.min(System.nanoTime() - now, MAX_LATENCY_NANOS));
+                    if (!ok) {
+                        errors++;
+                    }
+                }
+            }
+            return this;
+        }
+    }
+}
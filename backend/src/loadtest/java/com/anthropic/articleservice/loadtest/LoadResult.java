@@ -0,0 +1,36 @@
+package com.anthropic.articleservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one load run. Latencies are in microseconds.
+ */
+public record LoadResult(
+    long requests,
+    long errors,
+    double seconds,
+    double throughput,
+    long p50Micros,
+    long p99Micros,
+    long p999Micros,
+    long maxMicros
+) {
+    static LoadResult of(Histogram latenciesNanos, long errors, double seconds) {
+        long requests = latenciesNanos.getTotalCount();
+        return new LoadResult(
+            requests,
+            errors,
+            seconds,
+            requests / seconds,
+            latenciesNanos.getValueAtPercentile(50) / 1_000,
+            latenciesNanos.getValueAtPercentile(99) / 1_000,
+            latenciesNanos.getValueAtPercentile(99.9) / 1_000,
+            latenciesNanos.getMaxValue() / 1_000
+        );
+    }
+
+    public String summary() {
+        return String.format("%,d req in %.1fs (%,.0f req/s), %d errors, p50=%,dus p99=%,dus p999=%,dus max=%,dus",
+            requests, seconds, throughput, errors, p50Micros, p99Micros, p999Micros, maxMicros);
+    }
+}
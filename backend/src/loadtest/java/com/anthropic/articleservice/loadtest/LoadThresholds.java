@@ -0,0 +1,112 @@
+package com.anthropic.articleservice.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Properties;
+
+/**
+ * Pass/fail limits for a load run, read from a properties file. Missing
+ * keys are not checked.
+ *
+ * <p>Throughput and latency limits hold for the machine they were measured
+ * on. With {@code baseline-calibration-ops} set to that machine's
+ * {@link CpuCalibration} score, they are scaled to the speed of the
+ * machine running the check: loosened in proportion on a slower one, kept
+ * as recorded on a faster one. Error rate and allocation are not
+ * scaled.</p>
+ *
+ * <pre>
+ * baseline-calibration-ops=9000
+ * min-throughput=2000
+ * max-error-rate=0.001
+ * max-p50-micros=5000
+ * max-p99-micros=50000
+ * max-p999-micros=150000
+ * max-allocated-bytes-per-request=200000
+ * </pre>
+ */
+record LoadThresholds(
+    OptionalDouble baselineCalibrationOps,
+    OptionalDouble minThroughput,
+    OptionalDouble maxErrorRate,
+    OptionalDouble maxP50Micros,
+    OptionalDouble maxP99Micros,
+    OptionalDouble maxP999Micros,
+    OptionalDouble maxAllocatedBytesPerRequest
+) {
+    static LoadThresholds load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return new LoadThresholds(
+            value(properties, "baseline-calibration-ops"),
+            value(properties, "min-throughput"),
+            value(properties, "max-error-rate"),
+            value(properties, "max-p50-micros"),
+            value(properties, "max-p99-micros"),
+            value(properties, "max-p999-micros"),
+            value(properties, "max-allocated-bytes-per-request"));
+    }
+
+    /**
+     * The factor timing limits are scaled by on a machine with the given
+     * calibration score: its speed relative to the baseline machine, at
+     * most 1.
+     */
+    double speed(double calibrationOps) {
+        if (baselineCalibrationOps.isEmpty()) {
+            return 1;
+        }
+        return Math.min(1, calibrationOps / baselineCalibrationOps.getAsDouble());
+    }
+
+    /**
+     * @param allocatedBytesPerRequest empty when the server could not
+     *                                 measure allocation; the limit is then
+     *                                 skipped
+     * @param speed                    from {@link #speed}; throughput limits
+     *                                 are multiplied and latency limits
+     *                                 divided by it
+     */
+    List<String> violations(LoadResult result, OptionalDouble allocatedBytesPerRequest, double speed) {
+        List<String> violations = new ArrayList<>();
+        double errorRate = result.requests() == 0 ? 1 : (double) result.errors() / result.requests();
+        atLeast(violations, "throughput", result.throughput(), scaled(minThroughput, speed));
+        atMost(violations, "error rate", errorRate, maxErrorRate);
+        atMost(violations, "p50 (us)", result.p50Micros(), scaled(maxP50Micros, 1 / speed));
+        atMost(violations, "p99 (us)", result.p99Micros(), scaled(maxP99Micros, 1 / speed));
+        atMost(violations, "p999 (us)", result.p999Micros(), scaled(maxP999Micros, 1 / speed));
+        if (allocatedBytesPerRequest.isPresent()) {
+            atMost(violations, "allocated bytes/request", allocatedBytesPerRequest.getAsDouble(),
+                maxAllocatedBytesPerRequest);
+        }
+        return violations;
+    }
+
+    private static void atLeast(List<String> violations, String name, double actual, OptionalDouble limit) {
+        if (limit.isPresent() && actual < limit.getAsDouble()) {
+            violations.add(String.format("%s %,.3f below minimum %,.3f", name, actual, limit.getAsDouble()));
+        }
+    }
+
+    private static void atMost(List<String> violations, String name, double actual, OptionalDouble limit) {
+        if (limit.isPresent() && actual > limit.getAsDouble()) {
+            violations.add(String.format("%s %,.3f above maximum %,.3f", name, actual, limit.getAsDouble()));
+        }
+    }
+
+    private static OptionalDouble scaled(OptionalDouble limit, double factor) {
+        return limit.isPresent() ? OptionalDouble.of(limit.getAsDouble() * factor) : limit;
+    }
+
+    private static OptionalDouble value(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? OptionalDouble.empty() : OptionalDouble.of(Double.parseDouble(value.trim()));
+    }
+}
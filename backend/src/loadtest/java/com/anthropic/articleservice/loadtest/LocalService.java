@@ -0,0 +1,89 @@
+package com.anthropic.articleservice.loadtest;
+
+import com.anthropic.articleservice.ArticleServiceApplication;
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.repository.store.ArticleStore;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Starts the article service in-process on a random port for load runs.
+ * An optional store latency makes every store read sleep, standing in for
+ * a remote store so that request threads actually block.
+ */
+final class LocalService implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private LocalService(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * @param properties passed as command-line arguments, so they override
+     *                   application.properties (default properties would not)
+     */
+    static LocalService start(Map<String, Object> properties, Duration storeLatency) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--spring.main.banner-mode=off"));
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ArticleServiceApplication.class);
+        if (!storeLatency.isZero()) {
+            builder.initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof ArticleStore store ? new SlowStore(store, storeLatency) : bean;
+                }
+            }));
+        }
+        return new LocalService(builder.run(args.toArray(String[]::new)));
+    }
+
+    URI baseUri() {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/");
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private record SlowStore(ArticleStore delegate, Duration latency) implements ArticleStore {
+
+        @Override
+        public Optional<Article> load(String id) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.load(id);
+        }
+
+        @Override
+        public boolean save(Article article) {
+            return delegate.save(article);
+        }
+
+        @Override
+        public boolean delete(String id) {
+            return delegate.delete(id);
+        }
+
+        @Override
+        public List<String> ids() {
+            return delegate.ids();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.anthropic.articleservice.loadtest;
+
+import com.anthropic.articleservice.content.ContentAnalyzer;
+import com.anthropic.articleservice.feed.ChangeFeed;
+import com.anthropic.articleservice.locale.TranslationIndex;
+import com.anthropic.articleservice.metrics.ArticleMetrics;
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.history.ArticleHistory;
+import com.anthropic.articleservice.model.Article.Section;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.repository.ArticleV2Repository;
+import com.anthropic.articleservice.repository.store.ArticleStore;
+import com.anthropic.articleservice.repository.store.ArticleV2Store;
+import com.anthropic.articleservice.repository.store.InMemoryArticleStore;
+import com.anthropic.articleservice.repository.store.InMemoryArticleV2Store;
+import com.anthropic.articleservice.repository.store.OffHeapArticleStore;
+import com.anthropic.articleservice.repository.store.OffHeapArticleV2Store;
+import com.anthropic.articleservice.repository.store.OffHeapBodies;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import com.anthropic.articleservice.series.SeriesIndex;
+import com.anthropic.articleservice.syndication.SyndicationIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares retained heap and full-collection time for a catalogue held by
+ * the heap store and by the off-heap store, and the cost of a load from
+ * each. With {@code -Dloadtest.model=v2} the catalogue is V2 articles saved
+ * through {@link ArticleV2Repository}, so enrichment, version history and
+ * the indexes count too, with {@code loadtest.versions} versions of each.
+ * Precompressed responses are switched off there; their cache is bounded
+ * separately and would be the same for both stores. Run each mode in a
+ * fresh JVM:
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.anthropic.articleservice.loadtest.OffHeapFootprint -Dloadtest.off-heap=true
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.anthropic.articleservice.loadtest.OffHeapFootprint -Dloadtest.off-heap=true -Dloadtest.model=v2
+ * </pre>
+ */
+public final class OffHeapFootprint {
+
+    private OffHeapFootprint() {}
+
+    public static void main(String[] args) {
+        int count = Integer.getInteger("loadtest.articles", 20_000);
+        boolean offHeap = Boolean.getBoolean("loadtest.off-heap");
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        if ("v2".equals(System.getProperty("loadtest.model", "v1"))) {
+            measureV2(count, Integer.getInteger("loadtest.versions", 3), offHeap, mapper);
+            return;
+        }
+
+        long baseline = usedHeapAfterGc();
+        ArticleStore store = offHeap
+            ? new OffHeapArticleStore(mapper, new OffHeapBodies(true, 64 << 20, null))
+            : new InMemoryArticleStore();
+        for (int i = 0; i < count; i++) {
+            store.save(article(i));
+        }
+        long retained = usedHeapAfterGc() - baseline;
+        long gcMillis = fullGcMillis();
+
+        int reads = 200_000;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            sink += store.load(String.format("art-%06d", i % count)).orElseThrow().sections().size();
+        }
+        double loadMicros = (System.nanoTime() - start) / 1e3 / reads;
+
+        System.out.printf("%n%s store, %,d articles: retained heap %,d MB, full GC %,d ms, load %.1f us (%d)%n",
+            offHeap ? "off-heap" : "heap", count, retained >> 20, gcMillis, loadMicros, sink % 10);
+    }
+
+    private static void measureV2(int count, int versions, boolean offHeap, ObjectMapper mapper) {
+        OffHeapBodies bodies = new OffHeapBodies(offHeap, 64 << 20, null);
+        long baseline = usedHeapAfterGc();
+        ArticleV2Store store = offHeap ? new OffHeapArticleV2Store(mapper, bodies) : new InMemoryArticleV2Store();
+        ArticleV2Repository repository = new ArticleV2Repository(
+            store,
+            new ChangeFeed(4096),
+            new ArticleHistory(bodies, mapper, 50),
+            new TranslationIndex("en", 1024),
+            new SyndicationIndex("http://localhost:8080", "Articles", 50_000, 50),
+            new SeriesIndex(),
+            new ContentAnalyzer(65_536),
+            new PrecompressedResponses(mapper, new ArticleMetrics(new SimpleMeterRegistry()), false, 0)
+        );
+        for (int v = 0; v < versions; v++) {
+            for (int i = 0; i < count; i++) {
+                repository.save(articleV2(i, v));
+            }
+        }
+        long retained = usedHeapAfterGc() - baseline;
+        long gcMillis = fullGcMillis();
+
+        int reads = 200_000;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            sink += store.load(String.format("art-%06d", i % count)).orElseThrow().body().size();
+        }
+        double loadMicros = (System.nanoTime() - start) / 1e3 / reads;
+
+        System.out.printf("%n%s V2 repository, %,d articles x %d versions: retained heap %,d MB, full GC %,d ms, load %.1f us (%d)%n",
+            offHeap ? "off-heap" : "heap", count, versions, retained >> 20, gcMillis, loadMicros, sink % 10);
+    }
+
+    /**
+     * Each version rewrites one paragraph, so consecutive versions share
+     * most of their chunks.
+     */
+    private static ArticleV2 articleV2(int i, int version) {
+        String id = String.format("art-%06d", i);
+        List<Content> body = new ArrayList<>();
+        for (int s = 0; s < 12; s++) {
+            body.add(Content.Heading.h2("Heading " + s + " of " + id));
+            String revision = s == version % 12 ? " Revised in version " + version + "." : "";
+            body.add(Content.RichText.plain(("Sentence " + s + " in " + id + " about a topic. ").repeat(12) + revision));
+        }
+        return ArticleV2.builder()
+            .id(id)
+            .slug(id)
+            .title("Article " + i)
+            .body(body)
+            .build();
+    }
+
+    private static Article article(int i) {
+        String id = String.format("art-%06d", i);
+        List<Section> sections = new ArrayList<>();
+        for (int s = 0; s < 12; s++) {
+            sections.add(Section.heading("Heading " + s + " of " + id));
+            sections.add(Section.paragraph(("Sentence " + s + " in " + id + " about a topic. ").repeat(12)));
+        }
+        return new Article(id, "Article " + i, "Subtitle", "2024-01-01", "Research", "Excerpt " + i, "Author",
+            "Role", null, null, 5, List.of("a", "b"), sections);
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long fullGcMillis() {
+        long before = totalGcMillis();
+        System.gc();
+        return totalGcMillis() - before;
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += gc.getCollectionTime();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,63 @@
+package com.anthropic.articleservice.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares throughput and tail latency of platform-thread and
+ * virtual-thread request handling under a blocking store.
+ *
+ * <p>The hot tier and the stored response bodies are disabled so every
+ * read blocks in the store for {@code loadtest.store-latency-ms}, and the
+ * adaptive concurrency limit is off so no request is shed before it
+ * reaches the store; with more concurrent clients than
+ * Tomcat has platform threads, the platform mode queues while the virtual
+ * mode keeps every request in flight.</p>
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.concurrency=800 -Dloadtest.store-latency-ms=20
+ * </pre>
+ */
+public final class ThreadModeComparison {
+
+    private static final List<String> IDS = List.of("claude-opus-4-6", "economic-index", "building-effective-agents");
+
+    private ThreadModeComparison() {}
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 800);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20));
+        Duration storeLatency = Duration.ofMillis(Long.getLong("loadtest.store-latency-ms", 20));
+
+        LoadResult platform = run(false, concurrency, warmup, duration, storeLatency);
+        LoadResult virtual = run(true, concurrency, warmup, duration, storeLatency);
+
+        System.out.printf("%nconcurrency=%d store-latency=%dms%n", concurrency, storeLatency.toMillis());
+        System.out.println("platform: " + platform.summary());
+        System.out.println("virtual:  " + virtual.summary());
+        System.out.printf("throughput x%.2f, p99 x%.2f%n",
+            virtual.throughput() / platform.throughput(),
+            (double) virtual.p99Micros() / Math.max(1, platform.p99Micros()));
+    }
+
+    private static LoadResult run(boolean virtualThreads, int concurrency, Duration warmup, Duration duration,
+                                  Duration storeLatency) throws InterruptedException {
+        Map<String, Object> properties = Map.of(
+            "spring.threads.virtual.enabled", virtualThreads,
+            "articles.cache.max-bytes", 0,
+            "articles.compression.enabled", false,
+            "articles.limit.enabled", false,
+            "server.tomcat.max-connections", concurrency * 2,
+            "server.tomcat.accept-count", concurrency * 2
+        );
+        try (LocalService service = LocalService.start(properties, storeLatency)) {
+            LoadGenerator generator = new LoadGenerator(service.baseUri());
+            return generator.run(concurrency, warmup, duration,
+                () -> "api/articles/" + IDS.get(ThreadLocalRandom.current().nextInt(IDS.size())),
+                status -> status == 200);
+        }
+    }
+}
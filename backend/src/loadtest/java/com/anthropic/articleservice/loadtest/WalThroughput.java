@@ -0,0 +1,85 @@
+package com.anthropic.articleservice.loadtest;
+
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.Article.Section;
+import com.anthropic.articleservice.repository.store.WalArticleStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Measures durable write throughput of the write-ahead log store with
+ * increasing numbers of concurrent writers, showing how many writes share
+ * each fsync, then times recovery of the resulting log.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.anthropic.articleservice.loadtest.WalThroughput
+ * </pre>
+ */
+public final class WalThroughput {
+
+    private WalThroughput() {}
+
+    public static void main(String[] args) throws Exception {
+        int writesPerRun = Integer.getInteger("loadtest.writes", 4000);
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        Path directory = Files.createTempDirectory("wal-throughput");
+        try {
+            for (int writers : new int[] {1, 8, 64, 256}) {
+                clear(directory);
+                try (WalArticleStore store = open(directory, mapper)) {
+                    long start = System.nanoTime();
+                    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        for (int w = 0; w < writers; w++) {
+                            int writer = w;
+                            executor.submit(() -> {
+                                for (int i = writer; i < writesPerRun; i += writers) {
+                                    store.save(article(i));
+                                }
+                            });
+                        }
+                    }
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.printf("writers=%3d: %,8.0f writes/s, %,d fsyncs, %.1f writes/fsync%n",
+                        writers, writesPerRun / seconds, store.syncCount(), (double) writesPerRun / store.syncCount());
+                }
+            }
+
+            long start = System.nanoTime();
+            try (WalArticleStore store = open(directory, mapper)) {
+                System.out.printf("recovered %,d articles in %,d ms%n",
+                    store.ids().size(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            clear(directory);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static WalArticleStore open(Path directory, ObjectMapper mapper) {
+        return new WalArticleStore(directory, mapper, Long.MAX_VALUE, Duration.ofDays(1));
+    }
+
+    private static Article article(int i) {
+        String id = String.format("wal-%06d", i);
+        return new Article(id, "Article " + i, null, "2024-01-01", "Research", "Excerpt " + i, "Author", null,
+            null, null, 3, List.of("wal"), List.of(Section.paragraph(("Body of " + id + ". ").repeat(40))));
+    }
+
+    private static void clear(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.anthropic.articleservice.loadtest;
+
+import com.anthropic.articleservice.config.WireFormats;
+import com.anthropic.articleservice.content.ContentAnalyzer;
+import com.anthropic.articleservice.feed.ChangeFeed;
+import com.anthropic.articleservice.metrics.ArticleMetrics;
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.repository.ArticleCache;
+import com.anthropic.articleservice.repository.ArticleRepository;
+import com.anthropic.articleservice.repository.store.InMemoryArticleStore;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares payload size and encode/decode cost of the JSON and CBOR
+ * article encodings, using the same mapper settings as the service.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.anthropic.articleservice.loadtest.WireFormatBenchmark
+ * </pre>
+ */
+public final class WireFormatBenchmark {
+
+    private static final TypeReference<List<Article>> ARTICLE_LIST = new TypeReference<>() {};
+
+    private WireFormatBenchmark() {}
+
+    public static void main(String[] args) throws IOException {
+        int warmup = Integer.getInteger("loadtest.warmup-iterations", 20_000);
+        int iterations = Integer.getInteger("loadtest.iterations", 50_000);
+
+        ArticleMetrics metrics = new ArticleMetrics(new SimpleMeterRegistry());
+        List<Article> articles = new ArticleRepository(
+            new InMemoryArticleStore(),
+            new ArticleCache(1 << 20),
+            metrics,
+            new ChangeFeed(16),
+            new ContentAnalyzer(1024),
+            new PrecompressedResponses(new ObjectMapper(), metrics, true, 1 << 20)
+        ).streamStored().toList();
+
+        Result json = measure("json", Jackson2ObjectMapperBuilder.json().build(), articles, warmup, iterations);
+        Result cbor = measure("cbor", WireFormats.cborMapper(), articles, warmup, iterations);
+
+        System.out.printf("%n%d articles, %,d iterations%n", articles.size(), iterations);
+        System.out.println(json.summary());
+        System.out.println(cbor.summary());
+        System.out.printf("cbor/json: size %.2f, encode %.2f, decode %.2f%n",
+            (double) cbor.bytes / json.bytes,
+            cbor.encodeNanos / json.encodeNanos,
+            cbor.decodeNanos / json.decodeNanos);
+    }
+
+    private static Result measure(String name, ObjectMapper mapper, List<Article> articles,
+                                  int warmup, int iterations) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(articles);
+        if (!mapper.readValue(encoded, ARTICLE_LIST).equals(articles)) {
+            throw new IllegalStateException(name + " does not round-trip");
+        }
+
+        long sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += mapper.writeValueAsBytes(articles).length;
+            sink += mapper.readValue(encoded, ARTICLE_LIST).size();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += mapper.writeValueAsBytes(articles).length;
+        }
+        double encodeNanos = (double) (System.nanoTime() - start) / iterations;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += mapper.readValue(encoded, ARTICLE_LIST).size();
+        }
+        double decodeNanos = (double) (System.nanoTime() - start) / iterations;
+
+        if (sink == 42) {
+            System.out.println();
+        }
+        return new Result(name, encoded.length, encodeNanos, decodeNanos);
+    }
+
+    private record Result(String name, int bytes, double encodeNanos, double decodeNanos) {
+        String summary() {
+            return String.format("%-5s %,7d bytes  encode %,9.0f ns/op  decode %,9.0f ns/op",
+                name, bytes, encodeNanos, decodeNanos);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.anthropic.articleservice.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^s,
+ * the long-tailed popularity typical of article traffic. The cumulative
+ * distribution is precomputed, so a sample is one binary search.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+    }
+
+    int next() {
+        double u = ThreadLocalRandom.current().nextDouble(cumulative[cumulative.length - 1]);
+        int index = Arrays.binarySearch(cumulative, u);
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,300 @@
+package com.anthropic.articleservice.bulk;
+
+import com.anthropic.articleservice.bulk.ImportReport.LineError;
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.model.newmodel.Content.Accordion;
+import com.anthropic.articleservice.model.newmodel.Content.Callout;
+import com.anthropic.articleservice.model.newmodel.Content.Columns;
+import com.anthropic.articleservice.model.newmodel.Content.ContentList;
+import com.anthropic.articleservice.model.newmodel.Content.FootnoteRef;
+import com.anthropic.articleservice.model.newmodel.Content.Quote;
+import com.anthropic.articleservice.model.newmodel.Content.Table;
+import com.anthropic.articleservice.repository.ArticleRepository;
+import com.anthropic.articleservice.repository.ArticleV2Repository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming NDJSON import and export of V1 and V2 articles.
+ *
+ * <p>Imports parse and validate one line at a time and hold at most one
+ * batch of articles before handing it to the repository, so memory stays
+ * flat regardless of file size. Invalid lines are reported by line number
+ * and skipped; they don't fail the rest of the import. Neither does a
+ * batch the repository fails to save: its lines are reported as failed
+ * (articles stored before the failure stay stored and indexed) and the
+ * import continues with the next batch.</p>
+ */
+@Service
+public class BulkArticleService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkArticleService.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    private final ArticleRepository articleRepository;
+    private final ArticleV2Repository articleV2Repository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxLineChars;
+
+    public BulkArticleService(
+            ArticleRepository articleRepository,
+            ArticleV2Repository articleV2Repository,
+            ObjectMapper objectMapper,
+            @Value("${articles.bulk.batch-size:500}") int batchSize,
+            @Value("${articles.bulk.max-line-chars:4194304}") int maxLineChars) {
+        this.articleRepository = articleRepository;
+        this.articleV2Repository = articleV2Repository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxLineChars = maxLineChars;
+    }
+
+    public ImportReport importArticles(InputStream in) throws IOException {
+        return importLines(in, Article.class, BulkArticleService::validate, articleRepository::saveAll);
+    }
+
+    public ImportReport importArticlesV2(InputStream in) throws IOException {
+        return importLines(in, ArticleV2.class, BulkArticleService::validate, articleV2Repository::saveAll);
+    }
+
+    public void exportArticles(OutputStream out) throws IOException {
+        try (var articles = articleRepository.streamStored()) {
+            writeLines(out, articles.iterator());
+        }
+    }
+
+    public void exportArticlesV2(OutputStream out) throws IOException {
+        try (var articles = articleV2Repository.streamStored()) {
+            writeLines(out, articles.iterator());
+        }
+    }
+
+    private <T> ImportReport importLines(InputStream in, Class<T> type, Function<T, String> validator,
+                                         Consumer<List<T>> saveBatch) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(type);
+        NdjsonLineReader lines = new NdjsonLineReader(
+            new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), maxLineChars);
+
+        Tally tally = new Tally();
+        List<T> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+
+        String line;
+        while ((line = lines.next()) != null) {
+            String error;
+            if (lines.oversized()) {
+                error = "Line exceeds " + maxLineChars + " characters";
+            } else if (line.isBlank()) {
+                continue;
+            } else {
+                try {
+                    T record = reader.readValue(line);
+                    error = validator.apply(record);
+                    if (error == null) {
+                        batch.add(record);
+                        batchLines.add(lines.lineNumber());
+                    }
+                } catch (JsonProcessingException e) {
+                    error = e.getOriginalMessage();
+                }
+            }
+
+            if (error != null) {
+                tally.reject(lines.lineNumber(), error);
+            }
+            if (batch.size() == batchSize) {
+                save(saveBatch, batch, batchLines, tally);
+                batch = new ArrayList<>(batchSize);
+                batchLines = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            save(saveBatch, batch, batchLines, tally);
+        }
+
+        return tally.report(lines.lineNumber());
+    }
+
+    /**
+     * Hands a batch to the repository. A batch the repository fails on is
+     * reported against each of its lines, and the import goes on with the
+     * next batch.
+     */
+    private static <T> void save(Consumer<List<T>> saveBatch, List<T> batch, List<Long> batchLines, Tally tally) {
+        try {
+            saveBatch.accept(batch);
+        } catch (RuntimeException e) {
+            log.warn("Import batch of {} lines from line {} failed", batch.size(), batchLines.get(0), e);
+            String message = "Batch failed: " + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            for (long batchLine : batchLines) {
+                tally.reject(batchLine, message);
+            }
+            return;
+        }
+        tally.saved(batch.size());
+    }
+
+    private void writeLines(OutputStream out, Iterator<?> records) throws IOException {
+        if (!records.hasNext()) {
+            return;
+        }
+        ObjectWriter lineWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n");
+        try (SequenceWriter writer = lineWriter.writeValues(out)) {
+            while (records.hasNext()) {
+                writer.write(records.next());
+            }
+        }
+        // The separator only goes between records; terminate the last line too
+        out.write('\n');
+    }
+
+    private static String validate(Article article) {
+        if (article.id() == null || !VALID_ID.matcher(article.id()).matches()) {
+            return "Invalid or missing id";
+        }
+        if (article.title() == null || article.title().isBlank()) {
+            return "Missing title";
+        }
+        if (article.sections() == null) {
+            return "Missing sections";
+        }
+        return null;
+    }
+
+    private static String validate(ArticleV2 article) {
+        if (article.id() == null || !VALID_ID.matcher(article.id()).matches()) {
+            return "Invalid or missing id";
+        }
+        if (article.title() == null || article.title().isBlank()) {
+            return "Missing title";
+        }
+        if (article.body() == null) {
+            return "Missing body";
+        }
+        String bodyError = validateBlocks(article.body());
+        if (bodyError != null) {
+            return bodyError;
+        }
+        if (article.authors() == null || article.authors().stream().anyMatch(Objects::isNull)) {
+            return "Missing or null author";
+        }
+        if (article.translations() != null && article.translations().values().stream().anyMatch(Objects::isNull)) {
+            return "Null translation id";
+        }
+        if (article.publishing() == null || article.timestamps() == null) {
+            return "Missing publishing or timestamps";
+        }
+        return null;
+    }
+
+    /**
+     * Rejects nulls where the body's structure needs a value: blocks, list
+     * items and columns, at any depth. Missing nested content lists are
+     * fine and read as empty.
+     */
+    private static String validateBlocks(List<Content> blocks) {
+        if (blocks == null) {
+            return null;
+        }
+        for (Content block : blocks) {
+            String error = validateBlock(block);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    private static String validateBlock(Content block) {
+        if (block == null) {
+            return "Null body block";
+        } else if (block instanceof ContentList list) {
+            if (list.items() == null || list.items().stream().anyMatch(Objects::isNull)) {
+                return "Missing or null list item";
+            }
+            for (ContentList.ListItem item : list.items()) {
+                String error = validateBlocks(item.content());
+                if (error != null) {
+                    return error;
+                }
+            }
+        } else if (block instanceof Columns columns) {
+            if (columns.columns() == null || columns.columns().stream().anyMatch(Objects::isNull)) {
+                return "Missing or null column";
+            }
+            for (Columns.Column column : columns.columns()) {
+                String error = validateBlocks(column.content());
+                if (error != null) {
+                    return error;
+                }
+            }
+        } else if (block instanceof Table table && table.rows() != null) {
+            for (List<Content> row : table.rows()) {
+                String error = validateBlocks(row);
+                if (error != null) {
+                    return error;
+                }
+            }
+        } else if (block instanceof Quote quote) {
+            return validateBlocks(quote.content());
+        } else if (block instanceof Callout callout) {
+            return validateBlocks(callout.content());
+        } else if (block instanceof Accordion accordion) {
+            return validateBlocks(accordion.content());
+        } else if (block instanceof FootnoteRef footnote) {
+            return validateBlocks(footnote.content());
+        }
+        return null;
+    }
+
+    private static final class Tally {
+        private final List<LineError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+        private int batches;
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new LineError(line, message));
+            }
+        }
+
+        void saved(int count) {
+            imported += count;
+            batches++;
+        }
+
+        ImportReport report(long lines) {
+            return new ImportReport(lines, imported, rejected, batches, errors, rejected > errors.size());
+        }
+    }
+}
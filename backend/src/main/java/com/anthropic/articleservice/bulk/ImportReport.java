@@ -0,0 +1,18 @@
+package com.anthropic.articleservice.bulk;
+
+import java.util.List;
+
+/**
+ * Outcome of an NDJSON import. Only the first errors are listed in full;
+ * {@code rejected} counts all of them.
+ */
+public record ImportReport(
+    long lines,
+    long imported,
+    long rejected,
+    int batches,
+    List<LineError> errors,
+    boolean errorsTruncated
+) {
+    public record LineError(long line, String message) {}
+}
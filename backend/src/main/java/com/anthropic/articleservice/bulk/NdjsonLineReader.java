@@ -0,0 +1,67 @@
+package com.anthropic.articleservice.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited records with a hard cap on line length, so one
+ * oversized record cannot make the import buffer an unbounded amount.
+ */
+final class NdjsonLineReader {
+
+    private final Reader reader;
+    private final int maxLineChars;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean oversized;
+    private boolean eof;
+
+    NdjsonLineReader(Reader reader, int maxLineChars) {
+        this.reader = reader;
+        this.maxLineChars = maxLineChars;
+    }
+
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Whether the line last returned by {@link #next()} exceeded the cap.
+     */
+    boolean oversized() {
+        return oversized;
+    }
+
+    /**
+     * Returns the next line, or {@code null} at end of input. A line over
+     * the cap is skipped to its end and returned empty, with
+     * {@link #oversized()} set.
+     */
+    String next() throws IOException {
+        if (eof) {
+            return null;
+        }
+        line.setLength(0);
+        oversized = false;
+        int ch;
+        while ((ch = reader.read()) != -1 && ch != '\n') {
+            if (oversized) {
+                continue;
+            }
+            if (line.length() == maxLineChars) {
+                oversized = true;
+                line.setLength(0);
+            } else {
+                line.append((char) ch);
+            }
+        }
+        if (ch == -1) {
+            eof = true;
+            if (line.length() == 0 && !oversized) {
+                return null;
+            }
+        }
+        lineNumber++;
+        return line.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.anthropic.articleservice.config;
+
+import com.anthropic.articleservice.repository.store.ArticleStore;
+import com.anthropic.articleservice.repository.store.ArticleV2Store;
+import com.anthropic.articleservice.repository.store.FileArticleStore;
+import com.anthropic.articleservice.repository.store.InMemoryArticleStore;
+import com.anthropic.articleservice.repository.store.InMemoryArticleV2Store;
+import com.anthropic.articleservice.repository.store.OffHeapArticleStore;
+import com.anthropic.articleservice.repository.store.OffHeapArticleV2Store;
+import com.anthropic.articleservice.repository.store.OffHeapBodies;
+import com.anthropic.articleservice.repository.store.WalArticleStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Selects the backing {@link ArticleStore} from {@code articles.store.type}:
+ * {@code memory} (default), {@code file} or {@code wal}. With
+ * {@code articles.bodies.off-heap}, the memory store and the V2 store keep
+ * article bodies outside the Java heap.
+ */
+@Configuration
+public class ArticleStoreConfig {
+
+    @Bean
+    public ArticleStore articleStore(
+            @Value("${articles.store.type:memory}") String type,
+            @Value("${articles.store.directory:data/articles}") String directory,
+            @Value("${articles.store.wal.compact-bytes:67108864}") long compactBytes,
+            @Value("${articles.store.wal.compact-interval:10m}") Duration compactInterval,
+            ObjectMapper objectMapper,
+            OffHeapBodies bodies) {
+        return switch (type) {
+            case "memory" -> bodies.enabled() ? new OffHeapArticleStore(objectMapper, bodies) : new InMemoryArticleStore();
+            case "file" -> new FileArticleStore(Path.of(directory), objectMapper);
+            case "wal" -> new WalArticleStore(Path.of(directory), objectMapper, compactBytes, compactInterval);
+            default -> throw new IllegalArgumentException("Unknown articles.store.type: " + type);
+        };
+    }
+
+    @Bean
+    public ArticleV2Store articleV2Store(ObjectMapper objectMapper, OffHeapBodies bodies) {
+        return bodies.enabled() ? new OffHeapArticleV2Store(objectMapper, bodies) : new InMemoryArticleV2Store();
+    }
+
+    /**
+     * Bodies go to direct buffers unless {@code articles.bodies.mapped-directory}
+     * is set, in which case slabs are memory-mapped files there.
+     */
+    @Bean
+    public OffHeapBodies offHeapBodies(
+            @Value("${articles.bodies.off-heap:false}") boolean enabled,
+            @Value("${articles.bodies.slab-bytes:67108864}") int slabBytes,
+            @Value("${articles.bodies.mapped-directory:}") String mappedDirectory) {
+        return new OffHeapBodies(enabled, slabBytes, mappedDirectory.isBlank() ? null : Path.of(mappedDirectory));
+    }
+}
@@ -0,0 +1,64 @@
+package com.anthropic.articleservice.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Mapper settings for the binary article encoding.
+ *
+ * <p>CBOR already length-prefixes strings and encodes numbers and booleans
+ * natively; on top of that, null components are omitted, which removes
+ * most of the bytes in sparse records like {@code Article.Section}. Dates
+ * stay numeric rather than ISO strings.</p>
+ *
+ * <p>Article responses pick CBOR or JSON from {@code Accept} and, for
+ * JSON, a stored encoding from {@code Accept-Encoding}, so they vary on
+ * both.</p>
+ */
+public final class WireFormats {
+
+    public static final String[] VARY = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING};
+
+    private WireFormats() {}
+
+    /**
+     * Whether an {@code Accept} header asks for CBOR over JSON, the default.
+     * CBOR must be named explicitly with a non-zero quality above JSON's;
+     * a wildcard of equal quality loses to it, being less specific. An
+     * unparseable header gets JSON.
+     */
+    public static boolean prefersCbor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        double cbor = 0;
+        double json = 0;
+        double wildcard = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                    cbor = Math.max(cbor, type.getQualityValue());
+                } else if (type.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                    json = Math.max(json, type.getQualityValue());
+                } else if (type.includes(MediaType.APPLICATION_JSON)) {
+                    wildcard = Math.max(wildcard, type.getQualityValue());
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return cbor > 0 && cbor > json && cbor >= wildcard;
+    }
+
+    public static CBORMapper cborMapper() {
+        return CBORMapper.builder()
+            .findAndAddModules()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.anthropic.articleservice.content;
+
+import com.anthropic.articleservice.model.newmodel.Content.CodeBlock;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Highlights code snippets on the server so clients don't have to
+ * tokenize long snippets themselves.
+ *
+ * <p>Output is cached by a hash of the language and code, so a snippet that
+ * appears in several articles is tokenized once. Tokenizing runs on a small
+ * bounded pool; request threads only ever pick up finished results via
+ * {@link #highlightIfReady} and fall back to client-side highlighting while
+ * a snippet is still queued.</p>
+ */
+@Component
+public class CodeHighlighter {
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<HighlightedCode>> cache;
+
+    public CodeHighlighter(
+            @Value("${articles.highlight.threads:2}") int threads,
+            @Value("${articles.highlight.queue-capacity:256}") int queueCapacity,
+            @Value("${articles.highlight.cache-size:1024}") int cacheSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // The pool bounds concurrency either way; virtual threads just avoid parking platform threads
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("code-highlighter-", 1).factory()
+            : Thread.ofPlatform().name("code-highlighter-", 1).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<HighlightedCode>> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public static boolean supports(String language) {
+        return CodeTokenizer.forName(language) != null;
+    }
+
+    /**
+     * Like {@link #highlightIfReady(String, String)}, carrying the block's
+     * highlight ranges and line-number flag. The tokenized lines are shared
+     * by every block with the same language and code.
+     */
+    public Optional<HighlightedCode> highlightIfReady(CodeBlock block) {
+        return highlightIfReady(block.language(), block.code())
+            .map(highlighted -> highlighted.withPresentation(block.highlights(), block.showLineNumbers()));
+    }
+
+    /**
+     * Returns the highlighted snippet if it has already been produced,
+     * otherwise schedules it in the background and returns empty.
+     */
+    public Optional<HighlightedCode> highlightIfReady(String language, String code) {
+        CompletableFuture<HighlightedCode> result = highlight(language, code);
+        if (result.isDone() && !result.isCompletedExceptionally()) {
+            return Optional.ofNullable(result.join());
+        }
+        return Optional.empty();
+    }
+
+    public CompletableFuture<HighlightedCode> highlight(String language, String code) {
+        CodeTokenizer.Language lang = CodeTokenizer.forName(language);
+        if (lang == null || code == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String key = contentHash(lang.name(), code);
+        CompletableFuture<HighlightedCode> existing = cache.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<HighlightedCode> scheduled = new CompletableFuture<>();
+        existing = cache.putIfAbsent(key, scheduled);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    scheduled.complete(new HighlightedCode(lang.name(),
+                        CodeTokenizer.toHtmlLines(lang, code), List.of(), false));
+                } catch (RuntimeException e) {
+                    scheduled.completeExceptionally(e);
+                    cache.remove(key, scheduled);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Queue is full; let the client highlight this one and retry on a later request
+            cache.remove(key, scheduled);
+            scheduled.completeExceptionally(e);
+        }
+        return scheduled;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    static String contentHash(String language, String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(language.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(code.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
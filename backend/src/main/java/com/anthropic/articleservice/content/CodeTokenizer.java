@@ -0,0 +1,294 @@
+package com.anthropic.articleservice.content;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lightweight single-pass tokenizer for the languages that appear in
+ * articles. It recognises comments, strings, numbers, keywords and
+ * literals, which covers what the article stylesheet colours; anything
+ * else is emitted as escaped plain text.
+ */
+final class CodeTokenizer {
+
+    enum TokenType {
+        KEYWORD("tok-keyword"),
+        LITERAL("tok-literal"),
+        STRING("tok-string"),
+        NUMBER("tok-number"),
+        COMMENT("tok-comment");
+
+        final String cssClass;
+
+        TokenType(String cssClass) {
+            this.cssClass = cssClass;
+        }
+    }
+
+    record Language(
+        String name,
+        Set<String> keywords,
+        Set<String> literals,
+        String lineComment,
+        String blockCommentStart,
+        String blockCommentEnd,
+        String quotes,
+        boolean caseInsensitive
+    ) {}
+
+    private static final Map<String, Language> LANGUAGES = new HashMap<>();
+
+    static {
+        Language java = new Language("java", Set.of(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "continue",
+            "default", "do", "double", "else", "enum", "extends", "final", "finally", "float", "for", "if",
+            "implements", "import", "instanceof", "int", "interface", "long", "new", "package", "private",
+            "protected", "public", "record", "return", "sealed", "permits", "short", "static", "super",
+            "switch", "synchronized", "this", "throw", "throws", "try", "var", "void", "volatile", "while",
+            "yield"),
+            Set.of("true", "false", "null"), "//", "/*", "*/", "\"'", false);
+        Language javascript = new Language("javascript", Set.of(
+            "async", "await", "break", "case", "catch", "class", "const", "continue", "default", "delete",
+            "do", "else", "export", "extends", "finally", "for", "from", "function", "if", "import", "in",
+            "instanceof", "let", "new", "of", "return", "static", "super", "switch", "this", "throw", "try",
+            "typeof", "var", "void", "while", "yield"),
+            Set.of("true", "false", "null", "undefined", "NaN"), "//", "/*", "*/", "\"'`", false);
+        Language typescript = new Language("typescript", union(javascript.keywords(), Set.of(
+            "abstract", "any", "as", "boolean", "declare", "enum", "implements", "interface", "keyof",
+            "namespace", "never", "number", "private", "protected", "public", "readonly", "string", "type",
+            "unknown")),
+            javascript.literals(), "//", "/*", "*/", "\"'`", false);
+        Language python = new Language("python", Set.of(
+            "and", "as", "assert", "async", "await", "break", "class", "continue", "def", "del", "elif",
+            "else", "except", "finally", "for", "from", "global", "if", "import", "in", "is", "lambda",
+            "nonlocal", "not", "or", "pass", "raise", "return", "try", "while", "with", "yield"),
+            Set.of("True", "False", "None"), "#", null, null, "\"'", false);
+        Language go = new Language("go", Set.of(
+            "break", "case", "chan", "const", "continue", "default", "defer", "else", "fallthrough", "for",
+            "func", "go", "goto", "if", "import", "interface", "map", "package", "range", "return", "select",
+            "struct", "switch", "type", "var"),
+            Set.of("true", "false", "nil", "iota"), "//", "/*", "*/", "\"'`", false);
+        Language rust = new Language("rust", Set.of(
+            "as", "async", "await", "break", "const", "continue", "crate", "dyn", "else", "enum", "extern",
+            "fn", "for", "if", "impl", "in", "let", "loop", "match", "mod", "move", "mut", "pub", "ref",
+            "return", "self", "Self", "static", "struct", "super", "trait", "type", "unsafe", "use", "where",
+            "while"),
+            Set.of("true", "false", "None", "Some", "Ok", "Err"), "//", "/*", "*/", "\"", false);
+        Language c = new Language("c", Set.of(
+            "auto", "break", "case", "char", "const", "continue", "default", "do", "double", "else", "enum",
+            "extern", "float", "for", "goto", "if", "inline", "int", "long", "register", "return", "short",
+            "signed", "sizeof", "static", "struct", "switch", "typedef", "union", "unsigned", "void",
+            "volatile", "while"),
+            Set.of("NULL", "true", "false"), "//", "/*", "*/", "\"'", false);
+        Language cpp = new Language("cpp", union(c.keywords(), Set.of(
+            "auto", "class", "constexpr", "delete", "explicit", "friend", "namespace", "new", "noexcept",
+            "operator", "override", "private", "protected", "public", "template", "this", "throw", "try",
+            "catch", "typename", "using", "virtual")),
+            Set.of("true", "false", "nullptr", "NULL"), "//", "/*", "*/", "\"'", false);
+        Language csharp = new Language("csharp", union(java.keywords(), Set.of(
+            "async", "await", "base", "const", "delegate", "event", "foreach", "get", "in", "internal",
+            "is", "namespace", "object", "out", "override", "readonly", "ref", "set", "string", "struct",
+            "using", "virtual")),
+            java.literals(), "//", "/*", "*/", "\"'", false);
+        Language kotlin = new Language("kotlin", Set.of(
+            "as", "break", "class", "companion", "continue", "data", "do", "else", "enum", "for", "fun", "if",
+            "import", "in", "interface", "is", "object", "override", "package", "private", "return", "sealed",
+            "suspend", "this", "throw", "try", "catch", "val", "var", "when", "while"),
+            java.literals(), "//", "/*", "*/", "\"'", false);
+        Language bash = new Language("bash", Set.of(
+            "case", "do", "done", "elif", "else", "esac", "export", "fi", "for", "function", "if", "in",
+            "local", "return", "then", "until", "while"),
+            Set.of("true", "false"), "#", null, null, "\"'", false);
+        Language sql = new Language("sql", Set.of(
+            "select", "from", "where", "and", "or", "not", "insert", "into", "values", "update", "set",
+            "delete", "create", "table", "index", "drop", "alter", "join", "left", "right", "inner", "outer",
+            "on", "group", "by", "order", "having", "limit", "offset", "as", "distinct", "union", "primary",
+            "key", "references", "default", "in", "is", "like", "between", "case", "when", "then", "else",
+            "end", "with"),
+            Set.of("null", "true", "false"), "--", "/*", "*/", "'\"", true);
+        Language json = new Language("json", Set.of(),
+            Set.of("true", "false", "null"), null, null, null, "\"", false);
+        Language yaml = new Language("yaml", Set.of(),
+            Set.of("true", "false", "null", "yes", "no", "on", "off"), "#", null, null, "\"'", false);
+
+        register(java);
+        register(javascript, "js", "jsx", "node");
+        register(typescript, "ts", "tsx");
+        register(python, "py");
+        register(go, "golang");
+        register(rust, "rs");
+        register(c, "h");
+        register(cpp, "c++", "cc", "hpp");
+        register(csharp, "cs", "c#");
+        register(kotlin, "kt");
+        register(bash, "sh", "shell", "zsh", "console");
+        register(sql);
+        register(json);
+        register(yaml, "yml");
+    }
+
+    private CodeTokenizer() {}
+
+    static Language forName(String language) {
+        if (language == null) {
+            return null;
+        }
+        return LANGUAGES.get(language.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Tokenizes {@code code} and renders it as one escaped HTML fragment per
+     * line. Tokens spanning several lines (block comments, multi-line
+     * strings) are closed and reopened at each line break.
+     */
+    static List<String> toHtmlLines(Language language, String code) {
+        LineWriter out = new LineWriter(code.length());
+        int n = code.length();
+        int i = 0;
+        while (i < n) {
+            char ch = code.charAt(i);
+            int end;
+            if (language.lineComment() != null && code.startsWith(language.lineComment(), i)) {
+                end = code.indexOf('\n', i);
+                end = end < 0 ? n : end;
+                out.token(TokenType.COMMENT, code, i, end);
+            } else if (language.blockCommentStart() != null && code.startsWith(language.blockCommentStart(), i)) {
+                end = code.indexOf(language.blockCommentEnd(), i + language.blockCommentStart().length());
+                end = end < 0 ? n : end + language.blockCommentEnd().length();
+                out.token(TokenType.COMMENT, code, i, end);
+            } else if (language.quotes().indexOf(ch) >= 0) {
+                end = scanString(code, i, ch);
+                out.token(TokenType.STRING, code, i, end);
+            } else if (Character.isDigit(ch)) {
+                end = i + 1;
+                while (end < n && (Character.isLetterOrDigit(code.charAt(end)) || code.charAt(end) == '.'
+                        || code.charAt(end) == '_')) {
+                    end++;
+                }
+                out.token(TokenType.NUMBER, code, i, end);
+            } else if (Character.isJavaIdentifierStart(ch)) {
+                end = i + 1;
+                while (end < n && Character.isJavaIdentifierPart(code.charAt(end))) {
+                    end++;
+                }
+                String word = code.substring(i, end);
+                if (language.caseInsensitive()) {
+                    word = word.toLowerCase(Locale.ROOT);
+                }
+                if (language.keywords().contains(word)) {
+                    out.token(TokenType.KEYWORD, code, i, end);
+                } else if (language.literals().contains(word)) {
+                    out.token(TokenType.LITERAL, code, i, end);
+                } else {
+                    out.plain(code, i, end);
+                }
+            } else {
+                end = i + 1;
+                out.plain(code, i, end);
+            }
+            i = end;
+        }
+        return out.finish();
+    }
+
+    private static int scanString(String code, int start, char quote) {
+        int n = code.length();
+        int i = start + 1;
+        while (i < n) {
+            char ch = code.charAt(i);
+            if (ch == '\\') {
+                i += 2;
+            } else if (ch == quote) {
+                return i + 1;
+            } else if (ch == '\n' && quote != '`') {
+                // Unterminated single-line string: stop at the line break
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return n;
+    }
+
+    private static void register(Language language, String... aliases) {
+        LANGUAGES.put(language.name(), language);
+        for (String alias : aliases) {
+            LANGUAGES.put(alias, language);
+        }
+    }
+
+    private static Set<String> union(Set<String> a, Set<String> b) {
+        Set<String> merged = new HashSet<>(a);
+        merged.addAll(b);
+        return Set.copyOf(merged);
+    }
+
+    private static final class LineWriter {
+        private final List<String> lines = new ArrayList<>();
+        private final StringBuilder line;
+
+        LineWriter(int expectedLength) {
+            this.line = new StringBuilder(Math.min(expectedLength, 256));
+        }
+
+        void token(TokenType type, String code, int start, int end) {
+            int segmentStart = start;
+            for (int i = start; i < end; i++) {
+                if (code.charAt(i) == '\n') {
+                    span(type, code, segmentStart, i);
+                    newLine();
+                    segmentStart = i + 1;
+                }
+            }
+            span(type, code, segmentStart, end);
+        }
+
+        void plain(String code, int start, int end) {
+            for (int i = start; i < end; i++) {
+                char ch = code.charAt(i);
+                if (ch == '\n') {
+                    newLine();
+                } else {
+                    escape(ch);
+                }
+            }
+        }
+
+        List<String> finish() {
+            lines.add(line.toString());
+            return List.copyOf(lines);
+        }
+
+        private void span(TokenType type, String code, int start, int end) {
+            if (start == end) {
+                return;
+            }
+            line.append("<span class=\"").append(type.cssClass).append("\">");
+            for (int i = start; i < end; i++) {
+                escape(code.charAt(i));
+            }
+            line.append("</span>");
+        }
+
+        private void newLine() {
+            lines.add(line.toString());
+            line.setLength(0);
+        }
+
+        private void escape(char ch) {
+            switch (ch) {
+                case '<' -> line.append("&lt;");
+                case '>' -> line.append("&gt;");
+                case '&' -> line.append("&amp;");
+                case '"' -> line.append("&quot;");
+                case '\r' -> { }
+                default -> line.append(ch);
+            }
+        }
+    }
+}
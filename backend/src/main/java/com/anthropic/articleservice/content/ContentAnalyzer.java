@@ -0,0 +1,240 @@
+package com.anthropic.articleservice.content;
+
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.Article.Section;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.ArticleV2.Metadata;
+import com.anthropic.articleservice.model.newmodel.ArticleV2.TableOfContents;
+import com.anthropic.articleservice.model.newmodel.ArticleV2.TableOfContents.TocEntry;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.model.newmodel.Content.Accordion;
+import com.anthropic.articleservice.model.newmodel.Content.Callout;
+import com.anthropic.articleservice.model.newmodel.Content.CodeBlock;
+import com.anthropic.articleservice.model.newmodel.Content.Columns;
+import com.anthropic.articleservice.model.newmodel.Content.ContentList;
+import com.anthropic.articleservice.model.newmodel.Content.FootnoteRef;
+import com.anthropic.articleservice.model.newmodel.Content.Heading;
+import com.anthropic.articleservice.model.newmodel.Content.Media;
+import com.anthropic.articleservice.model.newmodel.Content.Quote;
+import com.anthropic.articleservice.model.newmodel.Content.RichText;
+import com.anthropic.articleservice.model.newmodel.Content.Table;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Computes word count, reading time and table of contents for an
+ * {@link ArticleV2} body in a single walk over its {@link Content} tree.
+ *
+ * <p>Word counts of top-level blocks are cached by content hash, so a block
+ * carried over unchanged from an earlier save, of this article or any other,
+ * is not counted again. Only the counts are kept, never the blocks, and the
+ * cache is bounded by {@code articles.content.word-count-cache-size}.</p>
+ *
+ * <p>V1 articles only carry a reading time, which is recomputed from their
+ * sections on every save.</p>
+ */
+@Component
+public class ContentAnalyzer {
+
+    static final int WORDS_PER_MINUTE = 230;
+
+    private final Cache<Long, Integer> wordsByBlockHash;
+
+    public ContentAnalyzer(@Value("${articles.content.word-count-cache-size:65536}") long wordCountCacheSize) {
+        this.wordsByBlockHash = Caffeine.newBuilder()
+            .maximumSize(wordCountCacheSize)
+            .build();
+    }
+
+    public ContentMetrics analyze(ArticleV2 article) {
+        List<Content> blocks = article.body() != null ? article.body() : List.of();
+        List<Heading> headings = new ArrayList<>();
+        int totalWords = 0;
+
+        for (Content block : blocks) {
+            if (block == null) {
+                continue;
+            }
+            totalWords += wordsByBlockHash.get(contentHash(block), hash -> countWords(block));
+            if (block instanceof Heading heading) {
+                headings.add(heading);
+            }
+        }
+
+        return new ContentMetrics(totalWords, readingTimeMinutes(totalWords), buildToc(headings));
+    }
+
+    /**
+     * Returns a copy of the article with word count, reading time and table
+     * of contents filled in from its body.
+     */
+    public ArticleV2 enrich(ArticleV2 article) {
+        ContentMetrics metrics = analyze(article);
+        Metadata metadata = article.metadata() != null ? article.metadata() : Metadata.simple(null, 0);
+        return article.withMetadata(metadata.withReadingMetrics(
+            metrics.readingTimeMinutes(), metrics.wordCount(), metrics.toc()));
+    }
+
+    /**
+     * Returns a copy of the V1 article with its reading time computed from
+     * its sections.
+     */
+    public Article enrich(Article article) {
+        int words = 0;
+        if (article.sections() != null) {
+            for (Section section : article.sections()) {
+                words += countWords(section.heading()) + countWords(section.content())
+                    + countWords(section.imageCaption()) + countWords(section.codeSnippet());
+                if (section.items() != null) {
+                    for (String item : section.items()) {
+                        words += countWords(item);
+                    }
+                }
+            }
+        }
+        return article.withReadingTimeMinutes(readingTimeMinutes(words));
+    }
+
+    /**
+     * Blocks are records, so equal content hashes equally; the block type
+     * fills the high bits because record hashes don't include it. A
+     * collision only misattributes one block's word count.
+     */
+    private static long contentHash(Content block) {
+        return ((long) block.getClass().getName().hashCode() << 32) | (block.hashCode() & 0xFFFF_FFFFL);
+    }
+
+    static int readingTimeMinutes(int words) {
+        if (words == 0) {
+            return 0;
+        }
+        return Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+
+    private static int countWords(Content block) {
+        if (block instanceof RichText text) {
+            return countWords(text.text());
+        } else if (block instanceof Heading heading) {
+            return countWords(heading.text());
+        } else if (block instanceof ContentList list && list.items() != null) {
+            int words = 0;
+            for (ContentList.ListItem item : list.items()) {
+                words += item != null ? countWords(item.content()) : 0;
+            }
+            return words;
+        } else if (block instanceof Media media) {
+            return countWords(media.caption());
+        } else if (block instanceof CodeBlock code) {
+            return countWords(code.code()) + countWords(code.caption());
+        } else if (block instanceof Quote quote) {
+            return countWords(quote.content()) + countWords(quote.citation());
+        } else if (block instanceof Callout callout) {
+            return countWords(callout.title()) + countWords(callout.content());
+        } else if (block instanceof Table table) {
+            int words = 0;
+            if (table.headers() != null) {
+                for (String header : table.headers()) {
+                    words += countWords(header);
+                }
+            }
+            if (table.rows() != null) {
+                for (List<Content> row : table.rows()) {
+                    words += countWords(row);
+                }
+            }
+            return words + countWords(table.caption());
+        } else if (block instanceof Accordion accordion) {
+            return countWords(accordion.summary()) + countWords(accordion.content());
+        } else if (block instanceof Columns columns && columns.columns() != null) {
+            int words = 0;
+            for (Columns.Column column : columns.columns()) {
+                words += column != null ? countWords(column.content()) : 0;
+            }
+            return words;
+        } else if (block instanceof FootnoteRef footnote) {
+            return countWords(footnote.content());
+        }
+        // Divider and Embed carry no readable text, nor do lists and columns without entries
+        return 0;
+    }
+
+    private static int countWords(List<Content> blocks) {
+        if (blocks == null) {
+            return 0;
+        }
+        int words = 0;
+        for (Content block : blocks) {
+            words += countWords(block);
+        }
+        return words;
+    }
+
+    static int countWords(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                words++;
+            }
+        }
+        return words;
+    }
+
+    private static TableOfContents buildToc(List<Heading> headings) {
+        if (headings.isEmpty()) {
+            return null;
+        }
+
+        List<TocNode> roots = new ArrayList<>();
+        Deque<TocNode> open = new ArrayDeque<>();
+        for (Heading heading : headings) {
+            TocNode node = new TocNode(heading);
+            while (!open.isEmpty() && open.peek().heading.level() >= heading.level()) {
+                open.pop();
+            }
+            if (open.isEmpty()) {
+                roots.add(node);
+            } else {
+                open.peek().children.add(node);
+            }
+            open.push(node);
+        }
+
+        return new TableOfContents(freeze(roots));
+    }
+
+    private static List<TocEntry> freeze(List<TocNode> nodes) {
+        List<TocEntry> entries = new ArrayList<>(nodes.size());
+        for (TocNode node : nodes) {
+            entries.add(new TocEntry(
+                node.heading.text(),
+                node.heading.anchorId(),
+                node.heading.level(),
+                freeze(node.children)
+            ));
+        }
+        return List.copyOf(entries);
+    }
+
+    private static final class TocNode {
+        final Heading heading;
+        final List<TocNode> children = new ArrayList<>();
+
+        TocNode(Heading heading) {
+            this.heading = heading;
+        }
+    }
+}
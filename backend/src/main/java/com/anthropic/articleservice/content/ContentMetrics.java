@@ -0,0 +1,12 @@
+package com.anthropic.articleservice.content;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2.TableOfContents;
+
+/**
+ * Reading metrics derived from an article body.
+ */
+public record ContentMetrics(
+    int wordCount,
+    int readingTimeMinutes,
+    TableOfContents toc
+) {}
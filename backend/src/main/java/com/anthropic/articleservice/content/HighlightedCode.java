@@ -0,0 +1,23 @@
+package com.anthropic.articleservice.content;
+
+import com.anthropic.articleservice.model.newmodel.Content.CodeBlock.HighlightRange;
+
+import java.util.List;
+
+/**
+ * Server-side highlighted code, one HTML fragment per source line so
+ * clients can apply line numbers and highlight ranges without re-parsing.
+ * The ranges and line-number flag are the code block's own; snippets
+ * without them (V1 code sections) carry none and no line numbers.
+ */
+public record HighlightedCode(
+    String language,
+    List<String> lines,
+    List<HighlightRange> highlights,
+    boolean showLineNumbers
+) {
+
+    HighlightedCode withPresentation(List<HighlightRange> highlights, boolean showLineNumbers) {
+        return new HighlightedCode(language, lines, highlights != null ? highlights : List.of(), showLineNumbers);
+    }
+}
@@ -1,11 +1,23 @@
 package com.anthropic.articleservice.controller;
 
+import com.anthropic.articleservice.config.WireFormats;
+import com.anthropic.articleservice.content.CodeHighlighter;
+import com.anthropic.articleservice.content.HighlightedCode;
 import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.Article.Section;
 import com.anthropic.articleservice.repository.ArticleRepository;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @RestController
 @RequestMapping("/api/articles")
@@ -13,20 +25,81 @@ import java.util.List;
 public class ArticleController {
 
     private final ArticleRepository articleRepository;
+    private final CodeHighlighter codeHighlighter;
+    private final PrecompressedResponses precompressedResponses;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public ArticleController(ArticleRepository articleRepository) {
+    public ArticleController(ArticleRepository articleRepository, CodeHighlighter codeHighlighter,
+                             PrecompressedResponses precompressedResponses,
+                             @Value("${articles.listing.page-size:100}") int defaultPageSize,
+                             @Value("${articles.listing.max-page-size:500}") int maxPageSize) {
         this.articleRepository = articleRepository;
+        this.codeHighlighter = codeHighlighter;
+        this.precompressedResponses = precompressedResponses;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
+    /**
+     * One page of articles in id order; a page shorter than {@code size} is
+     * the last. JSON responses are served from stored, pre-compressed
+     * bodies; clients asking for CBOR go through regular content negotiation.
+     */
     @GetMapping
-    public List<Article> getAllArticles() {
-        return articleRepository.findAll();
+    public ResponseEntity<?> getAllArticles(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (page < 0 || pageSize < 1 || pageSize > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "page must be >= 0 and size between 1 and " + maxPageSize);
+        }
+        if (WireFormats.prefersCbor(accept)) {
+            return ResponseEntity.ok().varyBy(WireFormats.VARY).body(articleRepository.findPage(page, pageSize));
+        }
+        return precompressedResponses.respond(precompressedResponses.listingKey(PrecompressedResponses.Listing.V1, page, pageSize),
+            () -> Optional.of(articleRepository.findPage(page, pageSize)), acceptEncoding).orElseThrow();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Article> getArticle(@PathVariable String id) {
+    public ResponseEntity<?> getArticle(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (WireFormats.prefersCbor(accept)) {
+            return articleRepository.findById(id)
+                .map(article -> ResponseEntity.ok().varyBy(WireFormats.VARY).body(article))
+                .orElse(ResponseEntity.notFound().build());
+        }
+        return precompressedResponses.respond(PrecompressedResponses.articleKey(id),
+                () -> articleRepository.findById(id), acceptEncoding)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Highlighted code sections keyed by section index. Sections that are
+     * still being highlighted in the background are left out; clients
+     * highlight those themselves.
+     */
+    @GetMapping("/{id}/highlights")
+    public ResponseEntity<Map<Integer, HighlightedCode>> getHighlights(@PathVariable String id) {
         return articleRepository.findById(id)
-            .map(ResponseEntity::ok)
+            .map(article -> {
+                Map<Integer, HighlightedCode> highlights = new TreeMap<>();
+                List<Section> sections = article.sections();
+                for (int i = 0; i < sections.size(); i++) {
+                    Section section = sections.get(i);
+                    if ("code".equals(section.type()) && section.codeSnippet() != null) {
+                        int index = i;
+                        codeHighlighter.highlightIfReady(section.codeLanguage(), section.codeSnippet())
+                            .ifPresent(highlighted -> highlights.put(index, highlighted));
+                    }
+                }
+                return ResponseEntity.ok(highlights);
+            })
             .orElse(ResponseEntity.notFound().build());
     }
 }
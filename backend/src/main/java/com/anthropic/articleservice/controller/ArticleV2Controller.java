@@ -0,0 +1,182 @@
+package com.anthropic.articleservice.controller;
+
+import com.anthropic.articleservice.config.WireFormats;
+import com.anthropic.articleservice.content.CodeHighlighter;
+import com.anthropic.articleservice.content.HighlightedCode;
+import com.anthropic.articleservice.history.ArticleDiff;
+import com.anthropic.articleservice.history.ArticleHistory;
+import com.anthropic.articleservice.history.VersionSummary;
+import com.anthropic.articleservice.locale.TranslationIndex;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.repository.ArticleV2Repository;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import com.anthropic.articleservice.series.SeriesIndex;
+import com.anthropic.articleservice.series.SeriesNavigation;
+import com.anthropic.articleservice.series.SeriesPrefetcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v2/articles")
+@CrossOrigin(origins = "*")
+public class ArticleV2Controller {
+
+    private final ArticleV2Repository articleRepository;
+    private final ArticleHistory history;
+    private final TranslationIndex translationIndex;
+    private final SeriesIndex seriesIndex;
+    private final SeriesPrefetcher seriesPrefetcher;
+    private final PrecompressedResponses precompressedResponses;
+    private final CodeHighlighter codeHighlighter;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ArticleV2Controller(ArticleV2Repository articleRepository, ArticleHistory history,
+                               TranslationIndex translationIndex, SeriesIndex seriesIndex,
+                               SeriesPrefetcher seriesPrefetcher, PrecompressedResponses precompressedResponses,
+                               CodeHighlighter codeHighlighter,
+                               @Value("${articles.listing.page-size:100}") int defaultPageSize,
+                               @Value("${articles.listing.max-page-size:500}") int maxPageSize) {
+        this.articleRepository = articleRepository;
+        this.history = history;
+        this.translationIndex = translationIndex;
+        this.seriesIndex = seriesIndex;
+        this.seriesPrefetcher = seriesPrefetcher;
+        this.precompressedResponses = precompressedResponses;
+        this.codeHighlighter = codeHighlighter;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * One page of articles in id order, or with {@code locale} (a tag or
+     * Accept-Language style list) one page of the listing for the first of
+     * those locales that has articles. A page shorter than {@code size} is
+     * the last. JSON pages are served from stored, pre-compressed bodies.
+     */
+    @GetMapping
+    public ResponseEntity<?> getAllArticles(
+            @RequestParam(required = false) String locale,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        int pageSize = size != null ? size : defaultPageSize;
+        if (page < 0 || pageSize < 1 || pageSize > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "page must be >= 0 and size between 1 and " + maxPageSize);
+        }
+        Supplier<List<ArticleV2>> listing = locale == null
+            ? () -> articleRepository.findPage(page, pageSize)
+            : () -> articleRepository.findPage(translationIndex.listing(locale), page, pageSize);
+        if (WireFormats.prefersCbor(accept)) {
+            return ResponseEntity.ok().varyBy(WireFormats.VARY).body(listing.get());
+        }
+        String key = precompressedResponses.listingKey(PrecompressedResponses.Listing.V2,
+            locale != null ? locale : "", page, pageSize);
+        return precompressedResponses.respond(key, () -> Optional.of(listing.get()), acceptEncoding).orElseThrow();
+    }
+
+    /**
+     * The translation of an article that best matches the {@code locale}
+     * parameter, or the Accept-Language header when it is absent.
+     */
+    @GetMapping("/{id}/localized")
+    public ResponseEntity<ArticleV2> getLocalizedArticle(
+            @PathVariable String id,
+            @RequestParam(required = false) String locale,
+            @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage) {
+        return translationIndex.resolve(id, locale != null ? locale : acceptLanguage)
+            .flatMap(articleRepository::findById)
+            .map(article -> ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_LANGUAGE, article.locale())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE)
+                .body(article))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * JSON responses are served from stored, pre-compressed bodies. For an
+     * article in a series, the previous and next parts are warmed in the
+     * background.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getArticle(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        seriesPrefetcher.prefetchNeighbours(id);
+        if (WireFormats.prefersCbor(accept)) {
+            return articleRepository.findById(id)
+                .map(article -> ResponseEntity.ok().varyBy(WireFormats.VARY).body(article))
+                .orElse(ResponseEntity.notFound().build());
+        }
+        return precompressedResponses.respond(PrecompressedResponses.articleV2Key(id),
+                () -> articleRepository.findById(id), acceptEncoding)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Highlighted code blocks keyed by body block index. Blocks that are
+     * still being highlighted in the background are left out; clients
+     * highlight those themselves.
+     */
+    @GetMapping("/{id}/highlights")
+    public ResponseEntity<Map<Integer, HighlightedCode>> getHighlights(@PathVariable String id) {
+        return articleRepository.findById(id)
+            .map(article -> {
+                Map<Integer, HighlightedCode> highlights = new TreeMap<>();
+                List<Content> body = article.body() != null ? article.body() : List.of();
+                for (int i = 0; i < body.size(); i++) {
+                    if (body.get(i) instanceof Content.CodeBlock block && block.code() != null) {
+                        int index = i;
+                        codeHighlighter.highlightIfReady(block)
+                            .ifPresent(highlighted -> highlights.put(index, highlighted));
+                    }
+                }
+                return ResponseEntity.ok(highlights);
+            })
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/series")
+    public ResponseEntity<SeriesNavigation> getSeries(@PathVariable String id) {
+        return ResponseEntity.of(seriesIndex.navigation(id));
+    }
+
+    @GetMapping("/{id}/versions")
+    public ResponseEntity<List<VersionSummary>> getVersions(@PathVariable String id) {
+        List<VersionSummary> versions = history.versions(id);
+        return versions.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(versions);
+    }
+
+    @GetMapping("/{id}/versions/{version}")
+    public ResponseEntity<ArticleV2> getVersion(@PathVariable String id, @PathVariable int version) {
+        return ResponseEntity.of(history.find(id, version));
+    }
+
+    @GetMapping("/{id}/diff")
+    public ResponseEntity<ArticleDiff> getDiff(@PathVariable String id, @RequestParam int from, @RequestParam int to) {
+        return ResponseEntity.of(history.diff(id, from, to));
+    }
+
+    /**
+     * Drops old versions, keeping the newest {@code keepLatest}.
+     */
+    @DeleteMapping("/{id}/versions")
+    public Map<String, Integer> pruneVersions(@PathVariable String id,
+                                              @RequestParam(defaultValue = "1") int keepLatest) {
+        return Map.of("removed", history.prune(id, keepLatest));
+    }
+}
@@ -0,0 +1,58 @@
+package com.anthropic.articleservice.controller;
+
+import com.anthropic.articleservice.bulk.BulkArticleService;
+import com.anthropic.articleservice.bulk.ImportReport;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * NDJSON bulk import and export. {@code model=v2} selects ArticleV2 records;
+ * the default is V1 {@code Article}.
+ */
+@RestController
+@RequestMapping("/api/bulk/articles")
+public class BulkController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BulkArticleService bulkArticleService;
+
+    public BulkController(BulkArticleService bulkArticleService) {
+        this.bulkArticleService = bulkArticleService;
+    }
+
+    @PostMapping(consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ImportReport importArticles(@RequestParam(defaultValue = "v1") String model, InputStream body)
+            throws IOException {
+        return isV2(model)
+            ? bulkArticleService.importArticlesV2(body)
+            : bulkArticleService.importArticles(body);
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportArticles(@RequestParam(defaultValue = "v1") String model) {
+        boolean v2 = isV2(model);
+        StreamingResponseBody body = out -> {
+            if (v2) {
+                bulkArticleService.exportArticlesV2(out);
+            } else {
+                bulkArticleService.exportArticles(out);
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private static boolean isV2(String model) {
+        if (!"v1".equalsIgnoreCase(model) && !"v2".equalsIgnoreCase(model)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown model: " + model);
+        }
+        return "v2".equalsIgnoreCase(model);
+    }
+}
@@ -0,0 +1,88 @@
+package com.anthropic.articleservice.controller;
+
+import com.anthropic.articleservice.feed.ChangeEvent;
+import com.anthropic.articleservice.feed.ChangeFeed;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Server-Sent Events stream of article changes.
+ *
+ * <p>Each event's id is the feed's boot epoch plus its sequence number, so
+ * a reconnecting {@code EventSource} resumes via {@code Last-Event-ID}
+ * automatically; other clients can pass the last id as {@code ?since=}.
+ * With neither, the stream starts at the current head. A {@code reset}
+ * event means the requested position has left the ring or belongs to a
+ * previous run of the service, and the client should refetch before
+ * applying the events that follow.</p>
+ */
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final int BATCH_SIZE = 256;
+
+    private final ChangeFeed changeFeed;
+
+    public ChangeFeedController(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(value = "since", required = false) String since) {
+        long cursor = changeFeed.resumePosition(lastEventId != null ? lastEventId : since);
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+
+        // One parked virtual thread per subscriber; a slow client only blocks its own writer
+        Thread writer = Thread.ofVirtual().name("change-feed-subscriber").unstarted(() -> stream(emitter, cursor));
+        emitter.onCompletion(writer::interrupt);
+        emitter.onTimeout(writer::interrupt);
+        emitter.onError(error -> writer.interrupt());
+        writer.start();
+        return emitter;
+    }
+
+    private void stream(SseEmitter emitter, long cursor) {
+        long position = cursor;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ChangeFeed.Batch batch = changeFeed.await(position, BATCH_SIZE, HEARTBEAT_INTERVAL);
+                if (batch.reset()) {
+                    emitter.send(SseEmitter.event().name("reset").data(Map.of(
+                        "epoch", changeFeed.epoch(),
+                        "resumedFrom", changeFeed.eventId(batch.resumedFrom()))));
+                }
+                if (batch.events().isEmpty() && !batch.reset()) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+                for (ChangeEvent event : batch.events()) {
+                    emitter.send(SseEmitter.event()
+                        .id(changeFeed.eventId(event.sequence()))
+                        .name(event.type().name().toLowerCase(Locale.ROOT))
+                        .data(event, MediaType.APPLICATION_JSON));
+                }
+                position = batch.lastSequence();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+        }
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // Request already finished
+        }
+    }
+}
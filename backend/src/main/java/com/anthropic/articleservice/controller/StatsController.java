@@ -0,0 +1,21 @@
+package com.anthropic.articleservice.controller;
+
+import com.anthropic.articleservice.repository.ArticleCacheStats;
+import com.anthropic.articleservice.repository.ArticleRepository;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final ArticleRepository articleRepository;
+
+    public StatsController(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    @GetMapping("/cache")
+    public ArticleCacheStats getCacheStats() {
+        return articleRepository.cacheStats();
+    }
+}
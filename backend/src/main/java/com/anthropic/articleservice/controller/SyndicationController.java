@@ -0,0 +1,61 @@
+package com.anthropic.articleservice.controller;
+
+import com.anthropic.articleservice.syndication.RenderedDocument;
+import com.anthropic.articleservice.syndication.SyndicationIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Sitemaps and feeds, served from pre-rendered bytes with ETags so
+ * crawlers polling unchanged documents get a 304.
+ */
+@RestController
+public class SyndicationController {
+
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType ATOM = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+
+    private final SyndicationIndex syndicationIndex;
+
+    public SyndicationController(SyndicationIndex syndicationIndex) {
+        this.syndicationIndex = syndicationIndex;
+    }
+
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemap(WebRequest request) {
+        return respond(syndicationIndex.sitemap(), XML, request);
+    }
+
+    @GetMapping("/sitemap-{number}.xml")
+    public ResponseEntity<byte[]> getSitemapShard(@PathVariable int number, WebRequest request) {
+        return syndicationIndex.sitemapShard(number)
+            .map(document -> respond(document, XML, request))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/feed.rss")
+    public ResponseEntity<byte[]> getRss(WebRequest request) {
+        return respond(syndicationIndex.rss(), RSS, request);
+    }
+
+    @GetMapping("/atom.xml")
+    public ResponseEntity<byte[]> getAtom(WebRequest request) {
+        return respond(syndicationIndex.atom(), ATOM, request);
+    }
+
+    private static ResponseEntity<byte[]> respond(RenderedDocument document, MediaType type, WebRequest request) {
+        if (request.checkNotModified(document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok()
+            .contentType(type)
+            .eTag(document.etag())
+            .body(document.body());
+    }
+}
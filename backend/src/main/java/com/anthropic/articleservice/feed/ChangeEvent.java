@@ -0,0 +1,18 @@
+package com.anthropic.articleservice.feed;
+
+import java.time.Instant;
+
+/**
+ * A single article change, numbered in the order it was applied.
+ */
+public record ChangeEvent(
+    long sequence,
+    Type type,
+    Model model,
+    String articleId,
+    Instant at
+) {
+    public enum Type { CREATED, UPDATED, DELETED, PUBLISHED }
+
+    public enum Model { V1, V2 }
+}
@@ -0,0 +1,138 @@
+package com.anthropic.articleservice.feed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process log of recent article changes, numbered with monotonically
+ * increasing sequence numbers starting at 1.
+ *
+ * <p>Sequences restart with every boot while the articles themselves may
+ * survive it, so event ids carry the boot's epoch as well
+ * ({@code <epoch>-<sequence>}). A reader presenting an id from another
+ * epoch cannot be placed in this feed and is told to resynchronise.</p>
+ *
+ * <p>Events live in a fixed-size ring shared by all readers. Readers keep
+ * their own cursor and nothing is buffered per reader, so a slow consumer
+ * costs no memory; one that falls more than the ring's capacity behind is
+ * told to resynchronise instead.</p>
+ */
+@Component
+public class ChangeFeed {
+
+    private final ChangeEvent[] ring;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long head;
+
+    public ChangeFeed(@Value("${articles.feed.capacity:4096}") int capacity) {
+        this.ring = new ChangeEvent[capacity];
+    }
+
+    public ChangeEvent publish(ChangeEvent.Type type, ChangeEvent.Model model, String articleId) {
+        lock.lock();
+        try {
+            ChangeEvent event = new ChangeEvent(head + 1, type, model, articleId, Instant.now());
+            ring[slot(event.sequence())] = event;
+            head = event.sequence();
+            appended.signalAll();
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public String eventId(long sequence) {
+        return epoch + '-' + sequence;
+    }
+
+    /**
+     * The sequence to resume after for a client's last event id: the head
+     * when it has none, or a position past the head, which makes the next
+     * batch a reset, when the id is malformed or from another epoch.
+     */
+    public long resumePosition(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return headSequence();
+        }
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash <= 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    public long headSequence() {
+        lock.lock();
+        try {
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code max} events after {@code afterSequence}, waiting
+     * up to {@code timeout} for one to arrive. If {@code afterSequence} is no
+     * longer in the ring, or is ahead of the feed (see {@link #resumePosition}),
+     * the batch is flagged as a reset and starts at the oldest retained
+     * event.
+     */
+    public Batch await(long afterSequence, int max, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (head == afterSequence && nanos > 0) {
+                nanos = appended.awaitNanos(nanos);
+            }
+            return read(afterSequence, max);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Batch read(long afterSequence, int max) {
+        long oldest = Math.max(1, head - ring.length + 1);
+        boolean reset = afterSequence > head || afterSequence < oldest - 1;
+        long from = reset ? oldest : afterSequence + 1;
+        long to = Math.min(head, from + max - 1);
+
+        List<ChangeEvent> events = new ArrayList<>((int) Math.max(0, to - from + 1));
+        for (long sequence = from; sequence <= to; sequence++) {
+            events.add(ring[slot(sequence)]);
+        }
+        return new Batch(events, reset, reset ? oldest - 1 : afterSequence);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+
+    /**
+     * @param events  events in sequence order, possibly empty on timeout
+     * @param reset   the reader's position was lost and it must resync
+     * @param resumedFrom the sequence this batch continues from
+     */
+    public record Batch(List<ChangeEvent> events, boolean reset, long resumedFrom) {
+
+        public long lastSequence() {
+            return events.isEmpty() ? resumedFrom : events.get(events.size() - 1).sequence();
+        }
+    }
+}
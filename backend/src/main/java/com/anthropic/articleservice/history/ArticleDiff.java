@@ -0,0 +1,26 @@
+package com.anthropic.articleservice.history;
+
+import com.anthropic.articleservice.model.newmodel.Content;
+
+import java.util.List;
+
+/**
+ * Differences between two versions of an article: the top-level fields that
+ * changed, and an ordered block-by-block comparison of the bodies.
+ */
+public record ArticleDiff(
+    String articleId,
+    int fromVersion,
+    int toVersion,
+    List<String> changedFields,
+    List<BlockChange> blocks
+) {
+    /**
+     * @param fromIndex position in the older body, null for added blocks
+     * @param toIndex   position in the newer body, null for removed blocks
+     * @param block     the added or removed block; null when unchanged
+     */
+    public record BlockChange(Op op, Integer fromIndex, Integer toIndex, Content block) {
+        public enum Op { UNCHANGED, ADDED, REMOVED }
+    }
+}
@@ -0,0 +1,279 @@
+package com.anthropic.articleservice.history;
+
+import com.anthropic.articleservice.history.ArticleDiff.BlockChange;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Author;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.model.newmodel.Taxonomy;
+import com.anthropic.articleservice.repository.store.OffHeapBlobStore;
+import com.anthropic.articleservice.repository.store.OffHeapBodies;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Interner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Append-only version history for V2 articles.
+ *
+ * <p>Versions share structure with their predecessor. Authors and taxonomy
+ * entries are weakly interned across all articles, so an entry is dropped
+ * once no retained version refers to it, and bodies are stored as
+ * content-defined chunks that unchanged runs of blocks share, so a new
+ * version costs its header plus the chunks that actually changed. With
+ * {@code articles.bodies.off-heap} set, those chunks live off the heap
+ * next to the article bodies; otherwise they stay on it and share block
+ * instances with the previous version.</p>
+ */
+@Component
+public class ArticleHistory {
+
+    private static final long MAX_DIFF_CELLS = 4_000_000;
+
+    private final Map<String, History> histories = new ConcurrentHashMap<>();
+    private final Interner<Object> shared = Interner.newWeakInterner();
+    private final VersionBodies bodies;
+    private final int maxVersions;
+
+    public ArticleHistory(
+            OffHeapBodies offHeapBodies,
+            ObjectMapper objectMapper,
+            @Value("${articles.history.max-versions:50}") int maxVersions) {
+        this.bodies = offHeapBodies.enabled()
+            ? new OffHeapVersionBodies(new OffHeapBlobStore(offHeapBodies), objectMapper)
+            : new HeapVersionBodies();
+        this.maxVersions = maxVersions;
+    }
+
+    /**
+     * Records a new version and returns the article as stored, numbered one
+     * past the latest retained version unless it already carries a higher
+     * number.
+     */
+    public ArticleV2 append(ArticleV2 article) {
+        History history = histories.computeIfAbsent(article.id(), id -> new History());
+        history.lock.lock();
+        try {
+            Version latest = history.versions.isEmpty() ? null : history.versions.get(history.versions.size() - 1);
+            int number = latest == null
+                ? Math.max(1, article.version())
+                : Math.max(article.version(), latest.number() + 1);
+
+            VersionBodies.Body body = bodies.store(article.body(), latest != null ? latest.body() : null);
+            Version version = new Version(number, shareHeader(article, number, latest), body);
+            history.versions.add(version);
+            while (history.versions.size() > maxVersions) {
+                bodies.release(history.versions.remove(0).body());
+            }
+            return version.header().toBuilder().body(List.copyOf(bodies.stored(article.body(), body))).build();
+        } finally {
+            history.lock.unlock();
+        }
+    }
+
+    public Optional<ArticleV2> find(String id, int versionNumber) {
+        return withHistory(id, history -> history.find(versionNumber).map(this::materialize));
+    }
+
+    public List<VersionSummary> versions(String id) {
+        return withHistory(id, history -> Optional.of(history.versions.stream()
+                .map(version -> new VersionSummary(
+                    version.number(),
+                    version.header().timestamps() != null ? version.header().timestamps().updatedAt() : null,
+                    version.body().blockCount()))
+                .toList()))
+            .orElse(List.of());
+    }
+
+    /**
+     * Drops all but the newest {@code keepLatest} versions.
+     *
+     * @return the number of versions removed
+     */
+    public int prune(String id, int keepLatest) {
+        return withHistory(id, history -> {
+            int removed = Math.max(0, history.versions.size() - Math.max(1, keepLatest));
+            List<Version> dropped = history.versions.subList(0, removed);
+            dropped.forEach(version -> bodies.release(version.body()));
+            dropped.clear();
+            return Optional.of(removed);
+        }).orElse(0);
+    }
+
+    public void remove(String id) {
+        History history = histories.remove(id);
+        if (history == null) {
+            return;
+        }
+        history.lock.lock();
+        try {
+            history.versions.forEach(version -> bodies.release(version.body()));
+            history.versions.clear();
+        } finally {
+            history.lock.unlock();
+        }
+    }
+
+    public Optional<ArticleDiff> diff(String id, int fromNumber, int toNumber) {
+        Optional<Version[]> pair = withHistory(id, history -> history.find(fromNumber)
+            .flatMap(from -> history.find(toNumber).map(to -> new Version[] {from, to})));
+        return pair.map(versions -> new ArticleDiff(
+            id,
+            fromNumber,
+            toNumber,
+            changedFields(versions[0].header(), versions[1].header()),
+            diffBlocks(bodies.load(versions[0].body()), bodies.load(versions[1].body()))));
+    }
+
+    private <T> Optional<T> withHistory(String id, Function<History, Optional<T>> action) {
+        History history = histories.get(id);
+        if (history == null) {
+            return Optional.empty();
+        }
+        history.lock.lock();
+        try {
+            return action.apply(history);
+        } finally {
+            history.lock.unlock();
+        }
+    }
+
+    private ArticleV2 shareHeader(ArticleV2 article, int number, Version latest) {
+        ArticleV2 previous = latest != null ? latest.header() : null;
+        ArticleV2.Builder builder = article.toBuilder()
+            .version(number)
+            .body(List.of())
+            .category(share(article.category()))
+            .tags(shareList(article.tags(), previous != null ? previous.tags() : null))
+            .authors(shareList(article.authors(), previous != null ? previous.authors() : null))
+            .contributors(shareList(article.contributors(), previous != null ? previous.contributors() : null));
+        if (article.series() != null && article.seriesOrder() != null) {
+            builder.series(share(article.series()), article.seriesOrder());
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T share(T value) {
+        return value == null ? null : (T) shared.intern(value);
+    }
+
+    private ArticleV2 materialize(Version version) {
+        return version.header().toBuilder().body(List.copyOf(bodies.load(version.body()))).build();
+    }
+
+    private <T> List<T> shareList(List<T> values, List<T> previous) {
+        if (values == null) {
+            return null;
+        }
+        if (values.equals(previous)) {
+            return previous;
+        }
+        List<T> sharedValues = new ArrayList<>(values.size());
+        for (T value : values) {
+            sharedValues.add(value instanceof Author || value instanceof Taxonomy ? share(value) : value);
+        }
+        return List.copyOf(sharedValues);
+    }
+
+    private static List<String> changedFields(ArticleV2 from, ArticleV2 to) {
+        List<String> changed = new ArrayList<>();
+        for (RecordComponent component : ArticleV2.class.getRecordComponents()) {
+            String name = component.getName();
+            if (name.equals("version") || name.equals("body")) {
+                continue;
+            }
+            try {
+                if (!Objects.equals(component.getAccessor().invoke(from), component.getAccessor().invoke(to))) {
+                    changed.add(name);
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot read ArticleV2." + name, e);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Longest-common-subsequence diff over blocks. Shared instances make the
+     * comparison mostly reference checks. Very large bodies fall back to a
+     * positional comparison to bound the table size.
+     */
+    private static List<BlockChange> diffBlocks(List<Content> from, List<Content> to) {
+        int n = from.size();
+        int m = to.size();
+        List<BlockChange> changes = new ArrayList<>();
+        if ((long) n * m > MAX_DIFF_CELLS) {
+            for (int i = 0; i < Math.max(n, m); i++) {
+                if (i < n && i < m && sameBlock(from.get(i), to.get(i))) {
+                    changes.add(new BlockChange(BlockChange.Op.UNCHANGED, i, i, null));
+                } else {
+                    if (i < n) {
+                        changes.add(new BlockChange(BlockChange.Op.REMOVED, i, null, from.get(i)));
+                    }
+                    if (i < m) {
+                        changes.add(new BlockChange(BlockChange.Op.ADDED, null, i, to.get(i)));
+                    }
+                }
+            }
+            return changes;
+        }
+
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = sameBlock(from.get(i), to.get(j))
+                    ? lcs[i + 1][j + 1] + 1
+                    : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < n || j < m) {
+            if (i < n && j < m && sameBlock(from.get(i), to.get(j))) {
+                changes.add(new BlockChange(BlockChange.Op.UNCHANGED, i++, j++, null));
+            } else if (j < m && (i == n || lcs[i][j + 1] >= lcs[i + 1][j])) {
+                changes.add(new BlockChange(BlockChange.Op.ADDED, null, j, to.get(j)));
+                j++;
+            } else {
+                changes.add(new BlockChange(BlockChange.Op.REMOVED, i, null, from.get(i)));
+                i++;
+            }
+        }
+        return changes;
+    }
+
+    private static boolean sameBlock(Content a, Content b) {
+        return a == b || a.equals(b);
+    }
+
+    private static final class History {
+        final ReentrantLock lock = new ReentrantLock();
+        final List<Version> versions = new ArrayList<>();
+
+        Optional<Version> find(int number) {
+            for (int i = versions.size() - 1; i >= 0; i--) {
+                if (versions.get(i).number() == number) {
+                    return Optional.of(versions.get(i));
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param header the article with an empty body
+     */
+    private record Version(int number, ArticleV2 header, VersionBodies.Body body) {}
+}
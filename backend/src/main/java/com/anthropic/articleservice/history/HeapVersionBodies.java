@@ -0,0 +1,80 @@
+package com.anthropic.articleservice.history;
+
+import com.anthropic.articleservice.model.newmodel.Content;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps version bodies on the heap. Blocks equal to one in the previous
+ * version are replaced by that instance, and a chunk made of the same
+ * instances as a previous chunk is that chunk, so a new version costs only
+ * the chunks that actually changed.
+ */
+final class HeapVersionBodies implements VersionBodies {
+
+    private record Chunks(List<List<Content>> chunks) implements Body {
+
+        @Override
+        public int blockCount() {
+            int count = 0;
+            for (List<Content> chunk : chunks) {
+                count += chunk.size();
+            }
+            return count;
+        }
+    }
+
+    @Override
+    public Body store(List<Content> blocks, Body previous) {
+        Map<Content, Content> previousBlocks = new HashMap<>();
+        Map<Content, List<Content>> previousChunksByFirst = new IdentityHashMap<>();
+        if (previous instanceof Chunks latest) {
+            for (List<Content> chunk : latest.chunks()) {
+                previousChunksByFirst.put(chunk.get(0), chunk);
+                for (Content block : chunk) {
+                    previousBlocks.putIfAbsent(block, block);
+                }
+            }
+        }
+
+        List<List<Content>> chunks = new ArrayList<>();
+        for (List<Content> chunk : VersionBodies.split(blocks)) {
+            chunk.replaceAll(block -> previousBlocks.getOrDefault(block, block));
+            chunks.add(reuseOrCopy(chunk, previousChunksByFirst));
+        }
+        return new Chunks(List.copyOf(chunks));
+    }
+
+    @Override
+    public List<Content> load(Body body) {
+        Chunks chunks = (Chunks) body;
+        List<Content> blocks = new ArrayList<>(chunks.blockCount());
+        for (List<Content> chunk : chunks.chunks()) {
+            blocks.addAll(chunk);
+        }
+        return blocks;
+    }
+
+    @Override
+    public void release(Body body) {
+        // Unreferenced chunks are collected with the version
+    }
+
+    private static List<Content> reuseOrCopy(List<Content> chunk, Map<Content, List<Content>> previousChunksByFirst) {
+        List<Content> candidate = previousChunksByFirst.get(chunk.get(0));
+        if (candidate != null && candidate.size() == chunk.size()) {
+            boolean same = true;
+            for (int i = 0; i < chunk.size() && same; i++) {
+                same = candidate.get(i) == chunk.get(i);
+            }
+            if (same) {
+                return candidate;
+            }
+        }
+        return List.copyOf(chunk);
+    }
+}
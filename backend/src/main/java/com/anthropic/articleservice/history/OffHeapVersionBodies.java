@@ -0,0 +1,75 @@
+package com.anthropic.articleservice.history;
+
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.repository.store.OffHeapBlobStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps version bodies off the heap as serialized chunks in an
+ * {@link OffHeapBlobStore}. A chunk identical to one already stored, in
+ * this article's history or any other, is stored once; the heap only holds
+ * each version's chunk keys.
+ */
+final class OffHeapVersionBodies implements VersionBodies {
+
+    private static final TypeReference<List<Content>> BLOCKS = new TypeReference<>() {};
+
+    private record ChunkKeys(List<String> keys, int blockCount) implements Body {}
+
+    private final OffHeapBlobStore blobs;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    OffHeapVersionBodies(OffHeapBlobStore blobs, ObjectMapper objectMapper) {
+        this.blobs = blobs;
+        this.writer = objectMapper.writerFor(BLOCKS);
+        this.reader = objectMapper.readerFor(BLOCKS);
+    }
+
+    @Override
+    public Body store(List<Content> blocks, Body previous) {
+        List<String> keys = new ArrayList<>();
+        int blockCount = 0;
+        try {
+            for (List<Content> chunk : VersionBodies.split(blocks)) {
+                keys.add(blobs.retain(writer.writeValueAsBytes(chunk)));
+                blockCount += chunk.size();
+            }
+        } catch (JsonProcessingException e) {
+            keys.forEach(blobs::release);
+            throw new IllegalStateException("Cannot encode version body", e);
+        }
+        return new ChunkKeys(List.copyOf(keys), blockCount);
+    }
+
+    @Override
+    public List<Content> load(Body body) {
+        ChunkKeys chunks = (ChunkKeys) body;
+        List<Content> blocks = new ArrayList<>(chunks.blockCount());
+        for (String key : chunks.keys()) {
+            blocks.addAll(blobs.read(key, reader::<List<Content>>readValue));
+        }
+        return blocks;
+    }
+
+    /**
+     * Hands back the incoming blocks rather than decoding what was just
+     * written.
+     */
+    @Override
+    public List<Content> stored(List<Content> blocks, Body body) {
+        return blocks != null ? blocks : List.of();
+    }
+
+    @Override
+    public void release(Body body) {
+        ((ChunkKeys) body).keys().forEach(blobs::release);
+    }
+}
@@ -0,0 +1,68 @@
+package com.anthropic.articleservice.history;
+
+import com.anthropic.articleservice.model.newmodel.Content;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Where {@link ArticleHistory} keeps version bodies. Bodies are split into
+ * content-defined chunks, so an unchanged run of blocks forms the same
+ * chunks in consecutive versions even when blocks are inserted before it,
+ * and implementations can store each such chunk once.
+ */
+interface VersionBodies {
+
+    int MAX_CHUNK_SIZE = 32;
+    // A chunk ends after a block whose content hash has these bits clear (~1 in 8 blocks)
+    int CHUNK_BOUNDARY_MASK = 7;
+
+    /**
+     * A stored body. Only the implementation that produced it can read it.
+     */
+    interface Body {
+        int blockCount();
+    }
+
+    /**
+     * Stores a body, sharing what it can with the previous version's.
+     *
+     * @param previous the latest retained version's body, or null
+     */
+    Body store(List<Content> blocks, Body previous);
+
+    List<Content> load(Body body);
+
+    /**
+     * The body to hand back for a version just stored from {@code blocks}.
+     */
+    default List<Content> stored(List<Content> blocks, Body body) {
+        return load(body);
+    }
+
+    /**
+     * Called once for each version that is dropped; its body is not read
+     * afterwards.
+     */
+    void release(Body body);
+
+    static List<List<Content>> split(List<Content> blocks) {
+        if (blocks == null || blocks.isEmpty()) {
+            return List.of();
+        }
+        List<List<Content>> chunks = new ArrayList<>();
+        List<Content> current = new ArrayList<>();
+        for (Content block : blocks) {
+            current.add(block);
+            int hash = block.hashCode();
+            if (((hash ^ (hash >>> 16)) & CHUNK_BOUNDARY_MASK) == 0 || current.size() == MAX_CHUNK_SIZE) {
+                chunks.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
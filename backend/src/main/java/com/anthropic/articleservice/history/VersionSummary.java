@@ -0,0 +1,12 @@
+package com.anthropic.articleservice.history;
+
+import java.time.Instant;
+
+/**
+ * One retained version of an article.
+ */
+public record VersionSummary(
+    int version,
+    Instant updatedAt,
+    int blocks
+) {}
@@ -0,0 +1,90 @@
+package com.anthropic.articleservice.limit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits requests while the number in flight is below an adaptive limit,
+ * and rejects the rest immediately rather than letting them queue.
+ *
+ * <p>The limit comes from a {@link GradientLimit} fed with the latency of
+ * admitted requests. Each {@link Priority} may use its own share of it, so
+ * lower classes are turned away while higher ones still get in.
+ * Admission is a compare-and-set on the in-flight count; nothing blocks.</p>
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private final GradientLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<Priority, LongAdder> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimiter(
+            @Value("${articles.limit.initial:20}") int initialLimit,
+            @Value("${articles.limit.min:4}") int minLimit,
+            @Value("${articles.limit.max:200}") int maxLimit,
+            @Value("${articles.limit.tolerance:2.0}") double tolerance,
+            @Value("${articles.limit.smoothing:0.2}") double smoothing) {
+        this.limit = new GradientLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing);
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * Returns a permit to be released when the request completes, or
+     * {@code null} if the request should be shed.
+     */
+    public Permit tryAcquire(Priority priority) {
+        int allowed = priority.allowed(limit.current());
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1, System.nanoTime());
+            }
+        }
+    }
+
+    public int limit() {
+        return limit.current();
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    public long rejected(Priority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    public final class Permit {
+        private final int inflightAtStart;
+        private final long startNanos;
+
+        private Permit(int inflightAtStart, long startNanos) {
+            this.inflightAtStart = inflightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the permit. Pass {@code sample = false} for requests whose
+         * duration says nothing about service capacity, such as streamed
+         * exports or failures.
+         */
+        public void release(boolean sample) {
+            inflight.decrementAndGet();
+            if (sample) {
+                limit.onSample(System.nanoTime() - startNanos, inflightAtStart);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.anthropic.articleservice.limit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows observed latency, after the gradient
+ * algorithm used by Netflix's concurrency-limits library.
+ *
+ * <p>Two moving averages of request latency are kept: a short one that
+ * tracks the last few requests and a long one that stands in for the
+ * latency of an unloaded service. While the short average stays within
+ * {@code tolerance} times the long one, the limit grows by about its
+ * square root per sample. Once queueing pushes latency past that, the
+ * ratio falls below one and the limit shrinks proportionally. Samples
+ * taken while fewer than half the permits were in use say nothing about
+ * capacity and are ignored, so an idle service does not inflate its limit
+ * without bound.</p>
+ */
+final class GradientLimit {
+
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+    private volatile int limit;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    int current() {
+        return limit;
+    }
+
+    /**
+     * Records the latency of a completed request that was admitted with
+     * {@code inflight} requests in progress, including itself.
+     */
+    void onSample(long rttNanos, int inflight) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            } else {
+                shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+                longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+            }
+            // After a slow period the long average lags far behind; let it
+            // come back down quickly so the limit can recover.
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            if (inflight < estimatedLimit / 2) {
+                return;
+            }
+
+            double gradient = Math.clamp(tolerance * longRtt / shortRtt, 0.5, 1.0);
+            double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = Math.clamp(estimatedLimit * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
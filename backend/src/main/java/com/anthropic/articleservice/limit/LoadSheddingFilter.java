@@ -0,0 +1,114 @@
+package com.anthropic.articleservice.limit;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Puts the article API, sitemaps and feeds behind the {@link ConcurrencyLimiter}.
+ * A shed request gets an empty 503 with {@code Retry-After} before any
+ * handler runs. Actuator endpoints and the change feed's long-lived
+ * streams are never limited.
+ *
+ * <p>Ordered after Spring Boot's observation filter, so shed requests still
+ * show up in {@code http.server.requests} with status 503.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter limiter;
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+
+    public LoadSheddingFilter(
+            ConcurrencyLimiter limiter,
+            @Value("${articles.limit.enabled:true}") boolean enabled,
+            @Value("${articles.limit.retry-after:1s}") Duration retryAfter) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || priorityOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = priorityOf(request.getRequestURI());
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire(priority);
+        if (permit == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentLength(0);
+            return;
+        }
+
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streamed exports finish on another thread; hold the permit until then
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.release(priority != Priority.BULK && response.getStatus() < 500);
+            }
+        }
+    }
+
+    /**
+     * Maps a request path to its priority class, or {@code null} for paths
+     * that are not limited.
+     */
+    static Priority priorityOf(String path) {
+        if (path.startsWith("/api/bulk/")) {
+            return Priority.BULK;
+        }
+        if (path.equals("/api/articles") || path.equals("/api/v2/articles")
+                || path.startsWith("/sitemap") || path.equals("/feed.rss") || path.equals("/atom.xml")) {
+            return Priority.LISTING;
+        }
+        if (path.startsWith("/api/articles/") || path.startsWith("/api/v2/articles/")) {
+            return Priority.READ;
+        }
+        return null;
+    }
+
+    private record ReleaseOnComplete(ConcurrencyLimiter.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
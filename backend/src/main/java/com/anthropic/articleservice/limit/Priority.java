@@ -0,0 +1,30 @@
+package com.anthropic.articleservice.limit;
+
+/**
+ * Request classes admitted by the {@link ConcurrencyLimiter}. Each class may
+ * fill only its share of the current limit, so as the limit shrinks under
+ * load, bulk work is shed first, then listings, and single-article reads
+ * keep the whole limit to themselves.
+ */
+public enum Priority {
+
+    /** A single article, by id, slug or version. */
+    READ(1.0),
+
+    /** Listing pages, sitemaps and feeds. */
+    LISTING(0.75),
+
+    /** NDJSON import and export. */
+    BULK(0.5);
+
+    private final double share;
+
+    Priority(double share) {
+        this.share = share;
+    }
+
+    /** How many of {@code limit} in-flight requests this class may occupy, at least one. */
+    int allowed(int limit) {
+        return Math.max(1, (int) (limit * share));
+    }
+}
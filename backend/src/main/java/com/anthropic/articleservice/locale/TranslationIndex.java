@@ -0,0 +1,331 @@
+package com.anthropic.articleservice.locale;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves V2 articles to the best available translation and keeps
+ * per-locale listings.
+ *
+ * <p>Articles linked through {@code translations} form a translation group.
+ * Each group carries a precomputed table from locale tag to article, which
+ * includes the language-only parent of every regional tag (a lone
+ * {@code de-CH} also answers {@code de}). Accept-Language headers are parsed
+ * once into an ordered fallback chain and cached, so resolving a request is
+ * a walk down that chain against a single table.</p>
+ *
+ * <p>Writes are serialized and applied once per saved batch; reads go to
+ * immutable groups and listing snapshots without locking.</p>
+ */
+@Component
+public class TranslationIndex {
+
+    private final String defaultLocale;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final Map<String, Indexed> articles = new ConcurrentHashMap<>();
+    private final Map<String, TranslationGroup> groups = new ConcurrentHashMap<>();
+    // Undirected translation links, including links to articles not indexed yet
+    private final Map<String, Set<String>> links = new HashMap<>();
+    private final Map<String, LocaleListing> listings = new ConcurrentHashMap<>();
+    private final Cache<String, List<String>> fallbackChains;
+
+    public TranslationIndex(
+            @Value("${articles.locale.default:en}") String defaultLocale,
+            @Value("${articles.locale.chain-cache-size:1024}") int chainCacheSize) {
+        this.defaultLocale = normalize(defaultLocale);
+        this.fallbackChains = Caffeine.newBuilder()
+            .maximumSize(chainCacheSize)
+            .build();
+    }
+
+    /**
+     * Returns the id of the translation of {@code articleId} that best
+     * matches the Accept-Language header, falling back to the default
+     * locale and then to the article itself.
+     */
+    public Optional<String> resolve(String articleId, String acceptLanguage) {
+        TranslationGroup group = groups.get(articleId);
+        if (group == null) {
+            return Optional.empty();
+        }
+        for (String tag : fallbackChain(acceptLanguage)) {
+            String id = group.resolution().get(tag);
+            if (id != null && articles.containsKey(id)) {
+                return Optional.of(id);
+            }
+        }
+        return articles.containsKey(articleId) ? Optional.of(articleId) : Optional.empty();
+    }
+
+    /**
+     * Ids of the articles in the first locale of the header's fallback
+     * chain that has any, in order.
+     */
+    public List<String> listing(String acceptLanguage) {
+        for (String tag : fallbackChain(acceptLanguage)) {
+            LocaleListing listing = listings.get(tag);
+            if (listing != null && !listing.isEmpty()) {
+                return listing.snapshot();
+            }
+        }
+        return List.of();
+    }
+
+    public void index(Collection<ArticleV2> batch) {
+        writeLock.lock();
+        try {
+            Set<String> touched = new HashSet<>();
+            for (ArticleV2 article : batch) {
+                Indexed indexed = new Indexed(article.id(), localeOf(article), translationIds(article));
+                Indexed previous = articles.put(indexed.id(), indexed);
+                if (previous != null) {
+                    unlink(previous, touched);
+                    listingFor(previous.locale()).remove(previous.id());
+                }
+                link(indexed, touched);
+                listingFor(indexed.locale()).add(indexed.id());
+            }
+            regroup(touched);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(String articleId) {
+        writeLock.lock();
+        try {
+            Indexed previous = articles.remove(articleId);
+            if (previous == null) {
+                return;
+            }
+            Set<String> touched = new HashSet<>();
+            unlink(previous, touched);
+            listingFor(previous.locale()).remove(articleId);
+            regroup(touched);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The article's translation links, without entries that name no article.
+     */
+    private static Map<String, String> translationIds(ArticleV2 article) {
+        if (article.translations() == null) {
+            return Map.of();
+        }
+        Map<String, String> ids = new HashMap<>();
+        article.translations().forEach((locale, id) -> {
+            if (locale != null && id != null) {
+                ids.put(locale, id);
+            }
+        });
+        return Map.copyOf(ids);
+    }
+
+    private void link(Indexed article, Set<String> touched) {
+        touched.add(article.id());
+        links.computeIfAbsent(article.id(), id -> new HashSet<>());
+        for (String id : article.translations().values()) {
+            if (id.equals(article.id())) {
+                continue;
+            }
+            links.computeIfAbsent(article.id(), k -> new HashSet<>()).add(id);
+            links.computeIfAbsent(id, k -> new HashSet<>()).add(article.id());
+            touched.add(id);
+        }
+    }
+
+    private void unlink(Indexed article, Set<String> touched) {
+        touched.add(article.id());
+        for (String id : article.translations().values()) {
+            if (id.equals(article.id())) {
+                continue;
+            }
+            touched.add(id);
+            Set<String> siblingLinks = links.get(id);
+            if (siblingLinks != null && !declaresLink(articles.get(id), article.id())) {
+                siblingLinks.remove(article.id());
+                links.get(article.id()).remove(id);
+            }
+        }
+    }
+
+    private static boolean declaresLink(Indexed article, String id) {
+        return article != null && article.translations().containsValue(id);
+    }
+
+    /**
+     * Rebuilds the groups containing any touched id. Removing a link can
+     * split a group, so each touched id gets its component recomputed.
+     */
+    private void regroup(Set<String> touched) {
+        Set<String> done = new HashSet<>();
+        for (String start : touched) {
+            if (done.contains(start)) {
+                continue;
+            }
+            Set<String> component = component(start);
+            done.addAll(component);
+
+            Map<String, String> members = new TreeMap<>();
+            for (String id : component) {
+                Indexed article = articles.get(id);
+                if (article != null) {
+                    members.put(article.locale(), id);
+                }
+            }
+            TranslationGroup group = new TranslationGroup(resolutionTable(members));
+            for (String id : component) {
+                if (articles.containsKey(id)) {
+                    groups.put(id, group);
+                } else {
+                    groups.remove(id);
+                    if (links.getOrDefault(id, Set.of()).isEmpty()) {
+                        links.remove(id);
+                    }
+                }
+            }
+        }
+    }
+
+    private Set<String> component(String start) {
+        Set<String> component = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(start);
+        while (!pending.isEmpty()) {
+            String id = pending.poll();
+            if (component.add(id)) {
+                pending.addAll(links.getOrDefault(id, Set.of()));
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Exact tags first, then each tag's parents for languages that have no
+     * article of their own. Members are sorted, so the choice among several
+     * regional variants is stable.
+     */
+    private static Map<String, String> resolutionTable(Map<String, String> members) {
+        Map<String, String> resolution = new HashMap<>(members);
+        members.forEach((locale, id) -> {
+            for (String parent = parent(locale); parent != null; parent = parent(parent)) {
+                resolution.putIfAbsent(parent, id);
+            }
+        });
+        return Map.copyOf(resolution);
+    }
+
+    private List<String> fallbackChain(String acceptLanguage) {
+        String header = acceptLanguage == null ? "" : acceptLanguage.trim();
+        return fallbackChains.get(header, this::parseFallbackChain);
+    }
+
+    private List<String> parseFallbackChain(String header) {
+        Set<String> chain = new LinkedHashSet<>();
+        if (!header.isEmpty()) {
+            try {
+                for (Locale.LanguageRange range : Locale.LanguageRange.parse(header)) {
+                    if (range.getWeight() <= 0 || range.getRange().equals("*")) {
+                        continue;
+                    }
+                    for (String tag = normalize(range.getRange()); tag != null; tag = parent(tag)) {
+                        chain.add(tag);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // Malformed header: serve the default locale
+            }
+        }
+        chain.add(defaultLocale);
+        return List.copyOf(chain);
+    }
+
+    private String localeOf(ArticleV2 article) {
+        return article.locale() == null || article.locale().isBlank() ? defaultLocale : normalize(article.locale());
+    }
+
+    private LocaleListing listingFor(String locale) {
+        return listings.computeIfAbsent(locale, l -> new LocaleListing());
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().replace('_', '-').toLowerCase(Locale.ROOT);
+    }
+
+    private static String parent(String tag) {
+        int dash = tag.lastIndexOf('-');
+        return dash > 0 ? tag.substring(0, dash) : null;
+    }
+
+    private record TranslationGroup(Map<String, String> resolution) {}
+
+    /**
+     * What the index keeps of an article; bodies are never held here.
+     */
+    private record Indexed(String id, String locale, Map<String, String> translations) {}
+
+    /**
+     * Ids of the articles in one locale. The sorted list handed to readers
+     * is rebuilt lazily after a change rather than on every write; a
+     * snapshot is only reused while no write has happened since it was
+     * taken.
+     */
+    private static final class LocaleListing {
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+        private volatile long modifications;
+        private volatile Snapshot snapshot;
+
+        void add(String id) {
+            if (ids.add(id)) {
+                modifications++;
+            }
+        }
+
+        void remove(String id) {
+            if (ids.remove(id)) {
+                modifications++;
+            }
+        }
+
+        boolean isEmpty() {
+            return ids.isEmpty();
+        }
+
+        List<String> snapshot() {
+            long seen = modifications;
+            Snapshot current = snapshot;
+            if (current == null || current.modifications() != seen) {
+                List<String> sorted = new ArrayList<>(ids);
+                sorted.sort(Comparator.naturalOrder());
+                current = new Snapshot(seen, List.copyOf(sorted));
+                snapshot = current;
+            }
+            return current.ids();
+        }
+
+        private record Snapshot(long modifications, List<String> ids) {}
+    }
+}
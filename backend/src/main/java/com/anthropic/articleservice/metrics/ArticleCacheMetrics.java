@@ -0,0 +1,41 @@
+package com.anthropic.articleservice.metrics;
+
+import com.anthropic.articleservice.repository.ArticleCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hot tier's statistics. Values are read from the cache's
+ * own counters at scrape time, so nothing is recorded on the request path.
+ */
+@Component
+public class ArticleCacheMetrics implements MeterBinder {
+
+    private final ArticleCache cache;
+
+    public ArticleCacheMetrics(ArticleCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("articles.cache.requests", cache, c -> c.stats().hitCount())
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("articles.cache.requests", cache, c -> c.stats().missCount())
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("articles.cache.evictions", cache, c -> c.stats().evictionCount())
+            .register(registry);
+        Gauge.builder("articles.cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .register(registry);
+        Gauge.builder("articles.cache.size", cache, c -> c.stats().entryCount())
+            .register(registry);
+        Gauge.builder("articles.cache.weight", cache, c -> c.stats().weightBytes())
+            .baseUnit("bytes")
+            .register(registry);
+    }
+}
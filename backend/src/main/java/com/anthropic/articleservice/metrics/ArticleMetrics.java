@@ -0,0 +1,93 @@
+package com.anthropic.articleservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Meters for the article read path that Spring Boot does not record on
+ * its own. Percentiles are computed client-side from HDR histograms, so
+ * recording is a couple of atomic increments per call.
+ */
+@Component
+public class ArticleMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final Timer findById;
+    private final Timer findPage;
+    private final Map<String, Timer> serializationTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> requestAllocations = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> compressionRatios = new ConcurrentHashMap<>();
+    private final Timer compressionCpuSaved;
+
+    public ArticleMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.findById = repositoryTimer("findById");
+        this.findPage = repositoryTimer("findPage");
+        this.compressionCpuSaved = Timer.builder("articles.compression.saved")
+            .description("Compression CPU time avoided by serving a stored encoding")
+            .register(registry);
+    }
+
+    public Timer findById() {
+        return findById;
+    }
+
+    public Timer findPage() {
+        return findPage;
+    }
+
+    public Timer serialization(String format, String type) {
+        return serializationTimers.computeIfAbsent(format + ':' + type, key -> Timer.builder("articles.serialization")
+            .description("Time spent writing response bodies")
+            .tag("format", format)
+            .tag("type", type)
+            .publishPercentiles(PERCENTILES)
+            .register(registry));
+    }
+
+    public DistributionSummary payloadSize(String format, String type) {
+        return payloadSizes.computeIfAbsent(format + ':' + type, key -> DistributionSummary.builder("articles.payload.size")
+            .description("Serialized response body size")
+            .baseUnit("bytes")
+            .tag("format", format)
+            .tag("type", type)
+            .publishPercentiles(PERCENTILES)
+            .register(registry));
+    }
+
+    public DistributionSummary requestAllocation(String uri) {
+        return requestAllocations.computeIfAbsent(uri, u -> DistributionSummary.builder("http.server.requests.allocated")
+            .description("Heap bytes allocated by the request thread while handling a request")
+            .baseUnit("bytes")
+            .tag("uri", u)
+            .publishPercentiles(PERCENTILES)
+            .register(registry));
+    }
+
+    public DistributionSummary compressionRatio(String encoding) {
+        return compressionRatios.computeIfAbsent(encoding, e -> DistributionSummary.builder("articles.compression.ratio")
+            .description("Compressed size as a fraction of the JSON body, recorded when a body is encoded")
+            .tag("encoding", e)
+            .register(registry));
+    }
+
+    public Timer compressionCpuSaved() {
+        return compressionCpuSaved;
+    }
+
+    private Timer repositoryTimer(String operation) {
+        return Timer.builder("articles.repository")
+            .description("Article repository call latency, including hot tier lookup and store loads")
+            .tag("operation", operation)
+            .publishPercentiles(PERCENTILES)
+            .register(registry);
+    }
+}
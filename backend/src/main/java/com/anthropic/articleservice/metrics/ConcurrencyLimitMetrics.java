@@ -0,0 +1,41 @@
+package com.anthropic.articleservice.metrics;
+
+import com.anthropic.articleservice.limit.ConcurrencyLimiter;
+import com.anthropic.articleservice.limit.Priority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Publishes the adaptive concurrency limit, requests in flight and requests
+ * shed per priority class, read from the limiter at scrape time.
+ */
+@Component
+public class ConcurrencyLimitMetrics implements MeterBinder {
+
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitMetrics(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("articles.limit.current", limiter, ConcurrencyLimiter::limit)
+            .description("Current adaptive concurrency limit")
+            .register(registry);
+        Gauge.builder("articles.limit.inflight", limiter, ConcurrencyLimiter::inflight)
+            .description("Limited requests currently in progress")
+            .register(registry);
+        for (Priority priority : Priority.values()) {
+            FunctionCounter.builder("articles.limit.rejected", limiter, l -> l.rejected(priority))
+                .description("Requests shed with 503 because the concurrency limit was reached")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+        }
+    }
+}
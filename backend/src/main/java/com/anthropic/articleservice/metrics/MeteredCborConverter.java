@@ -0,0 +1,33 @@
+package com.anthropic.articleservice.metrics;
+
+import com.anthropic.articleservice.config.WireFormats;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * CBOR converter for clients that send {@code Accept: application/cbor}.
+ * Uses the compact {@link WireFormats#cborMapper() CBOR mapper} and records
+ * the same metrics as the JSON converter, tagged {@code format=cbor}.
+ */
+@Component
+public class MeteredCborConverter extends MappingJackson2CborHttpMessageConverter {
+
+    private final ArticleMetrics metrics;
+
+    public MeteredCborConverter(ArticleMetrics metrics) {
+        super(WireFormats.cborMapper());
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        MeteredWrite.record(metrics, "cbor", object, outputMessage,
+            message -> super.writeInternal(object, type, message));
+    }
+}
@@ -0,0 +1,33 @@
+package com.anthropic.articleservice.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records serialization time and payload size per
+ * response type. Registered as a bean so Spring Boot uses it in place of
+ * the default JSON converter.
+ */
+@Component
+public class MeteredJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ArticleMetrics metrics;
+
+    public MeteredJsonConverter(ObjectMapper objectMapper, ArticleMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        MeteredWrite.record(metrics, "json", object, outputMessage,
+            message -> super.writeInternal(object, type, message));
+    }
+}
@@ -0,0 +1,124 @@
+package com.anthropic.articleservice.metrics;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a converter's body write and counts the bytes it produces.
+ * Shared by the metered JSON and CBOR converters, and by stored response
+ * bodies, which are serialized once and then written as bytes.
+ */
+public final class MeteredWrite {
+
+    @FunctionalInterface
+    interface BodyWriter {
+        void write(HttpOutputMessage message) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Serializer {
+        byte[] serialize() throws IOException;
+    }
+
+    private MeteredWrite() {}
+
+    /**
+     * Times serializing a body that is stored and served later; each
+     * response it serves is counted with {@link #served}.
+     */
+    public static byte[] serialize(ArticleMetrics metrics, String format, Object object, Serializer serializer)
+            throws IOException {
+        long start = System.nanoTime();
+        try {
+            return serializer.serialize();
+        } finally {
+            metrics.serialization(format, typeTag(object)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts a response served from a stored body.
+     *
+     * @param typeTag {@link #typeTag} of the object the body was serialized from
+     * @param bytes   the serialized size of the body
+     */
+    public static void served(ArticleMetrics metrics, String format, String typeTag, int bytes) {
+        metrics.payloadSize(format, typeTag).record(bytes);
+    }
+
+    static void record(ArticleMetrics metrics, String format, Object object, HttpOutputMessage outputMessage,
+                       BodyWriter writer) throws IOException {
+        String typeTag = typeTag(object);
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        long start = System.nanoTime();
+        try {
+            writer.write(counting);
+        } finally {
+            metrics.serialization(format, typeTag).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            metrics.payloadSize(format, typeTag).record(counting.bytesWritten());
+        }
+    }
+
+    public static String typeTag(Object object) {
+        // Collection implementation classes (ListN, ArrayList, ...) vary call to call; tag by shape instead
+        if (object instanceof Collection<?>) {
+            return "List";
+        } else if (object instanceof Map<?, ?>) {
+            return "Map";
+        }
+        return object == null ? "null" : object.getClass().getSimpleName();
+    }
+
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage delegate;
+        private CountingOutputStream body;
+
+        CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingOutputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        long bytesWritten() {
+            return body == null ? 0 : body.count;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
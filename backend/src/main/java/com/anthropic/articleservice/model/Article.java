@@ -17,6 +17,11 @@ public record Article(
     List<String> tags,
     List<Section> sections
 ) {
+    public Article withReadingTimeMinutes(int readingTimeMinutes) {
+        return new Article(id, title, subtitle, date, category, excerpt, author, authorRole,
+            heroImage, heroImageAlt, readingTimeMinutes, tags, sections);
+    }
+
     public record Section(
         String type,
         String heading,
@@ -1,5 +1,7 @@
 package com.anthropic.articleservice.model.newmodel;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -74,6 +76,10 @@ public record ArticleV2(
         public static Metadata simple(String excerpt, int readingTime) {
             return new Metadata(excerpt, excerpt, readingTime, 0, null, List.of(), null);
         }
+
+        public Metadata withReadingMetrics(int readingTimeMinutes, int wordCount, TableOfContents toc) {
+            return new Metadata(excerpt, description, readingTimeMinutes, wordCount, difficulty, keywords, toc);
+        }
     }
 
     /**
@@ -130,7 +136,7 @@ public record ArticleV2(
             return new PublishingInfo(Status.DRAFT, Visibility.PRIVATE, false, false, null, null);
         }
 
-        public static PublishingInfo featured() {
+        public static PublishingInfo publishedFeatured() {
             return new PublishingInfo(Status.PUBLISHED, Visibility.PUBLIC, true, false, null, null);
         }
     }
@@ -190,14 +196,57 @@ public record ArticleV2(
         return new Builder();
     }
 
+    @JsonIgnore
     public boolean isPublished() {
         return publishing.status() == PublishingInfo.Status.PUBLISHED;
     }
 
+    @JsonIgnore
     public boolean isFeatured() {
         return publishing.featured();
     }
 
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.id = id;
+        builder.slug = slug;
+        builder.version = version;
+        builder.title = title;
+        builder.subtitle = subtitle;
+        builder.body = body;
+        builder.metadata = metadata;
+        builder.category = category;
+        builder.tags = tags;
+        builder.series = series;
+        builder.seriesOrder = seriesOrder;
+        builder.authors = authors;
+        builder.contributors = contributors;
+        builder.heroImage = heroImage;
+        builder.ogImage = ogImage;
+        builder.twitterImage = twitterImage;
+        builder.gallery = gallery;
+        builder.timestamps = timestamps;
+        builder.publishing = publishing;
+        builder.relatedArticles = relatedArticles;
+        builder.externalLinks = externalLinks;
+        builder.locale = locale;
+        builder.translations = translations;
+        builder.engagement = engagement;
+        return builder;
+    }
+
+    public ArticleV2 withMetadata(Metadata metadata) {
+        return new ArticleV2(
+            id, slug, version, title, subtitle, body, metadata,
+            category, tags, series, seriesOrder,
+            authors, contributors,
+            heroImage, ogImage, twitterImage, gallery,
+            timestamps, publishing,
+            relatedArticles, externalLinks,
+            locale, translations, engagement
+        );
+    }
+
     public Optional<Author> primaryAuthor() {
         return authors.isEmpty() ? Optional.empty() : Optional.of(authors.get(0));
     }
@@ -247,12 +296,15 @@ public record ArticleV2(
         public Builder contributors(List<Author> contributors) { this.contributors = contributors; return this; }
         public Builder heroImage(ArticleMedia heroImage) { this.heroImage = heroImage; return this; }
         public Builder ogImage(ArticleMedia ogImage) { this.ogImage = ogImage; return this; }
+        public Builder twitterImage(ArticleMedia twitterImage) { this.twitterImage = twitterImage; return this; }
+        public Builder gallery(List<ArticleMedia> gallery) { this.gallery = gallery; return this; }
         public Builder timestamps(Timestamps timestamps) { this.timestamps = timestamps; return this; }
         public Builder publishing(PublishingInfo publishing) { this.publishing = publishing; return this; }
         public Builder relatedArticles(List<RelatedArticle> related) { this.relatedArticles = related; return this; }
         public Builder externalLinks(List<ExternalLink> links) { this.externalLinks = links; return this; }
         public Builder locale(String locale) { this.locale = locale; return this; }
         public Builder translations(Map<String, String> translations) { this.translations = translations; return this; }
+        public Builder engagement(EngagementData engagement) { this.engagement = engagement; return this; }
 
         public ArticleV2 build() {
             if (id == null && slug != null) id = slug;
@@ -1,12 +1,33 @@
 package com.anthropic.articleservice.model.newmodel;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
 import java.util.List;
 import java.util.Map;
 
 /**
  * Sealed interface representing all content block types.
  * Uses sealed types for exhaustive pattern matching in switch expressions.
+ * Serialized with a {@code block} discriminator, since several blocks
+ * already have a {@code type} component.
  */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "block")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = Content.RichText.class, name = "text"),
+    @JsonSubTypes.Type(value = Content.Heading.class, name = "heading"),
+    @JsonSubTypes.Type(value = Content.ContentList.class, name = "list"),
+    @JsonSubTypes.Type(value = Content.Media.class, name = "media"),
+    @JsonSubTypes.Type(value = Content.CodeBlock.class, name = "code"),
+    @JsonSubTypes.Type(value = Content.Quote.class, name = "quote"),
+    @JsonSubTypes.Type(value = Content.Callout.class, name = "callout"),
+    @JsonSubTypes.Type(value = Content.Table.class, name = "table"),
+    @JsonSubTypes.Type(value = Content.Accordion.class, name = "accordion"),
+    @JsonSubTypes.Type(value = Content.Divider.class, name = "divider"),
+    @JsonSubTypes.Type(value = Content.Embed.class, name = "embed"),
+    @JsonSubTypes.Type(value = Content.Columns.class, name = "columns"),
+    @JsonSubTypes.Type(value = Content.FootnoteRef.class, name = "footnote")
+})
 public sealed interface Content {
 
     /**
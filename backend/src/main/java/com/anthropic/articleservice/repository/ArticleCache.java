@@ -0,0 +1,110 @@
+package com.anthropic.articleservice.repository;
+
+import com.anthropic.articleservice.model.Article;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded hot tier in front of the {@link com.anthropic.articleservice.repository.store.ArticleStore}.
+ *
+ * <p>Backed by Caffeine, whose W-TinyLFU policy only admits a new article
+ * when it is requested more often than the one it would evict, so a burst
+ * of one-off reads (crawlers, bulk exports) cannot flush the popular set.
+ * Capacity is in estimated bytes, so a few very long articles cannot crowd
+ * the tier the way an entry-count bound would allow.</p>
+ *
+ * <p>Misses are single-flight: the first caller for an id installs a
+ * pending future and loads from the store on its own thread, and every
+ * concurrent caller for that id waits on the same future. Unknown ids
+ * resolve to an empty result that is shared the same way but not kept,
+ * and an invalidation during a load drops the pending entry so the stale
+ * result is never cached. Because the mapping function only installs the
+ * future, no lock is held while the store is read, so a slow load never
+ * pins a virtual thread's carrier.</p>
+ */
+@Component
+public class ArticleCache {
+
+    private final AsyncCache<String, Article> cache;
+    private final long maxWeightBytes;
+
+    public ArticleCache(@Value("${articles.cache.max-bytes:67108864}") long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(ArticleWeigher::weigh)
+            .recordStats()
+            .buildAsync();
+    }
+
+    public Optional<Article> get(String id, Function<String, Optional<Article>> loader) {
+        CompletableFuture<Article> load = new CompletableFuture<>();
+        CompletableFuture<Article> shared = cache.get(id, (key, executor) -> load);
+        if (shared == load) {
+            try {
+                load.complete(loader.apply(id).orElse(null));
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+            }
+        }
+        return Optional.ofNullable(join(shared));
+    }
+
+    public void put(Article article) {
+        cache.put(article.id(), CompletableFuture.completedFuture(article));
+    }
+
+    public void invalidate(String id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    /**
+     * Up to {@code limit} cached ids, most frequently used first, as ranked
+     * by the admission policy.
+     */
+    public List<String> hottest(int limit) {
+        return cache.synchronous().policy().eviction()
+            .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+            .orElse(List.of());
+    }
+
+    public ArticleCacheStats stats() {
+        Cache<String, Article> sync = cache.synchronous();
+        CacheStats stats = sync.stats();
+        long weight = sync.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+        return new ArticleCacheStats(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.loadCount(),
+            stats.evictionCount(),
+            stats.evictionWeight(),
+            sync.estimatedSize(),
+            weight,
+            maxWeightBytes
+        );
+    }
+
+    private static Article join(CompletableFuture<Article> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
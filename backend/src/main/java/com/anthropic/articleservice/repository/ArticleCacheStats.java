@@ -0,0 +1,16 @@
+package com.anthropic.articleservice.repository;
+
+/**
+ * Point-in-time statistics for the repository's hot tier.
+ */
+public record ArticleCacheStats(
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long loadCount,
+    long evictionCount,
+    long evictionWeight,
+    long entryCount,
+    long weightBytes,
+    long maxWeightBytes
+) {}
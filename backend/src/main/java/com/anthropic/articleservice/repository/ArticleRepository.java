@@ -1,26 +1,48 @@
 package com.anthropic.articleservice.repository;
 
+import com.anthropic.articleservice.content.ContentAnalyzer;
+import com.anthropic.articleservice.feed.ChangeEvent;
+import com.anthropic.articleservice.feed.ChangeFeed;
+import com.anthropic.articleservice.metrics.ArticleMetrics;
 import com.anthropic.articleservice.model.Article;
 import com.anthropic.articleservice.model.Article.Section;
+import com.anthropic.articleservice.repository.store.ArticleStore;
+import com.anthropic.articleservice.response.PrecompressedResponses;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class ArticleRepository {
 
-    private final Map<String, Article> articles = new HashMap<>();
+    private final ArticleStore store;
+    private final ArticleCache cache;
+    private final ArticleMetrics metrics;
+    private final ChangeFeed changeFeed;
+    private final ContentAnalyzer contentAnalyzer;
+    private final PrecompressedResponses responses;
+    private final ArticleLocks locks = new ArticleLocks(64);
+    private final SortedIds sortedIds;
 
-    public ArticleRepository() {
-        initializeArticles();
+    public ArticleRepository(ArticleStore store, ArticleCache cache, ArticleMetrics metrics, ChangeFeed changeFeed,
+                             ContentAnalyzer contentAnalyzer, PrecompressedResponses responses) {
+        this.store = store;
+        this.cache = cache;
+        this.metrics = metrics;
+        this.changeFeed = changeFeed;
+        this.contentAnalyzer = contentAnalyzer;
+        this.responses = responses;
+        if (store.isEmpty()) {
+            initializeArticles();
+        }
+        this.sortedIds = new SortedIds(store.ids());
     }
 
     private void initializeArticles() {
         // Claude Opus 4.6 Article
-        articles.put("claude-opus-4-6", new Article(
+        store.save(contentAnalyzer.enrich(new Article(
             "claude-opus-4-6",
             "Claude Opus 4.6",
             "Intelligent, efficient, and the best model in the world for coding, agents, and computer use",
@@ -60,10 +82,10 @@ public class ArticleRepository {
                     "Conversation Management: Removed Opus-specific usage caps for Max and Team Premium tiers"
                 ))
             )
-        ));
+        )));
 
         // Economic Index Article
-        articles.put("economic-index", new Article(
+        store.save(contentAnalyzer.enrich(new Article(
             "economic-index",
             "The Anthropic Economic Index",
             "Revealing the shape of AI adoption across the world",
@@ -108,10 +130,10 @@ public class ArticleRepository {
                 )),
                 Section.paragraph("The Anthropic Economic Index represents our commitment to transparency about AI's role in the economy and provides valuable data for researchers, policymakers, and businesses seeking to understand AI adoption patterns.")
             )
-        ));
+        )));
 
         // Building Effective Agents Article
-        articles.put("building-effective-agents", new Article(
+        store.save(contentAnalyzer.enrich(new Article(
             "building-effective-agents",
             "Building Effective Agents",
             "Lessons learned from building LLM agents with dozens of teams",
@@ -160,14 +182,88 @@ public class ArticleRepository {
                 )),
                 Section.quote("Tools will likely be an important part of your agent. Invest effort equal to HCI design in creating clear, well-documented agent-computer interfaces.")
             )
-        ));
+        )));
     }
 
     public Optional<Article> findById(String id) {
-        return Optional.ofNullable(articles.get(id));
+        return metrics.findById().record(() -> cache.get(id, store::load));
     }
 
-    public List<Article> findAll() {
-        return List.copyOf(articles.values());
+    /**
+     * One page of articles in id order. The page's ids are sliced from a
+     * sorted index and only those articles are loaded, so a listing never
+     * needs the catalogue on the heap.
+     */
+    public List<Article> findPage(int page, int size) {
+        return metrics.findPage().record(() -> sortedIds.page(page, size).stream()
+            .map(id -> cache.get(id, store::load))
+            .flatMap(Optional::stream)
+            .toList());
+    }
+
+    /**
+     * Reads every stored article straight from the store, bypassing the hot
+     * tier so bulk reads don't displace popular articles.
+     */
+    public Stream<Article> streamStored() {
+        return store.ids().stream()
+            .map(store::load)
+            .flatMap(Optional::stream);
+    }
+
+    public Article save(Article incoming) {
+        Article article = contentAnalyzer.enrich(incoming);
+        return locks.withLock(article.id(), () -> {
+            boolean created = store.save(article);
+            sortedIds.add(article.id());
+            cache.invalidate(article.id());
+            responses.refresh(PrecompressedResponses.articleKey(article.id()), article);
+            responses.invalidateListings(PrecompressedResponses.Listing.V1);
+            changeFeed.publish(created ? ChangeEvent.Type.CREATED : ChangeEvent.Type.UPDATED,
+                ChangeEvent.Model.V1, article.id());
+            return article;
+        });
+    }
+
+    public void saveAll(List<Article> batch) {
+        List<Article> articles = batch.stream().map(contentAnalyzer::enrich).toList();
+        locks.withLocks(articles.stream().map(Article::id).toList(), () -> {
+            List<Boolean> created = store.saveAll(articles);
+            for (int i = 0; i < articles.size(); i++) {
+                String id = articles.get(i).id();
+                sortedIds.add(id);
+                cache.invalidate(id);
+                responses.refresh(PrecompressedResponses.articleKey(id), articles.get(i));
+                changeFeed.publish(created.get(i) ? ChangeEvent.Type.CREATED : ChangeEvent.Type.UPDATED,
+                    ChangeEvent.Model.V1, id);
+            }
+            responses.invalidateListings(PrecompressedResponses.Listing.V1);
+            return null;
+        });
+    }
+
+    public boolean deleteById(String id) {
+        return locks.withLock(id, () -> {
+            boolean deleted = store.delete(id);
+            sortedIds.remove(id);
+            cache.invalidate(id);
+            responses.invalidate(PrecompressedResponses.articleKey(id));
+            responses.invalidateListings(PrecompressedResponses.Listing.V1);
+            if (deleted) {
+                changeFeed.publish(ChangeEvent.Type.DELETED, ChangeEvent.Model.V1, id);
+            }
+            return deleted;
+        });
+    }
+
+    public ArticleCacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * The most requested ids in the hot tier, most popular first.
+     */
+    public List<String> hottestIds(int limit) {
+        return cache.hottest(limit);
     }
 }
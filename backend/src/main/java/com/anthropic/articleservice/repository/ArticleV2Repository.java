@@ -0,0 +1,166 @@
+package com.anthropic.articleservice.repository;
+
+import com.anthropic.articleservice.content.ContentAnalyzer;
+import com.anthropic.articleservice.feed.ChangeEvent;
+import com.anthropic.articleservice.feed.ChangeFeed;
+import com.anthropic.articleservice.history.ArticleHistory;
+import com.anthropic.articleservice.locale.TranslationIndex;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.repository.store.ArticleV2Store;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import com.anthropic.articleservice.series.SeriesIndex;
+import com.anthropic.articleservice.syndication.SyndicationIndex;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public class ArticleV2Repository {
+
+    private final ArticleV2Store store;
+    private final ChangeFeed changeFeed;
+    private final ArticleHistory history;
+    private final TranslationIndex translationIndex;
+    private final SyndicationIndex syndicationIndex;
+    private final SeriesIndex seriesIndex;
+    private final ContentAnalyzer contentAnalyzer;
+    private final PrecompressedResponses responses;
+    private final ArticleLocks locks = new ArticleLocks(64);
+    private final SortedIds sortedIds;
+
+    public ArticleV2Repository(ArticleV2Store store, ChangeFeed changeFeed, ArticleHistory history,
+                               TranslationIndex translationIndex, SyndicationIndex syndicationIndex,
+                               SeriesIndex seriesIndex, ContentAnalyzer contentAnalyzer,
+                               PrecompressedResponses responses) {
+        this.store = store;
+        this.changeFeed = changeFeed;
+        this.history = history;
+        this.translationIndex = translationIndex;
+        this.syndicationIndex = syndicationIndex;
+        this.seriesIndex = seriesIndex;
+        this.contentAnalyzer = contentAnalyzer;
+        this.responses = responses;
+        this.sortedIds = new SortedIds(store.ids());
+    }
+
+    public Optional<ArticleV2> findById(String id) {
+        return store.load(id);
+    }
+
+    /**
+     * One page of articles in id order. The page's ids are sliced from a
+     * sorted index and only those articles are loaded, so off-heap bodies
+     * outside it are never decoded.
+     */
+    public List<ArticleV2> findPage(int page, int size) {
+        return sortedIds.page(page, size).stream()
+            .map(store::load)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    /**
+     * One page of the given ids, in their order; ids that are no longer
+     * stored are skipped.
+     */
+    public List<ArticleV2> findPage(List<String> ids, int page, int size) {
+        int from = (int) Math.min((long) page * size, ids.size());
+        int to = (int) Math.min((long) from + size, ids.size());
+        return ids.subList(from, to).stream()
+            .map(store::load)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    /**
+     * Reads every stored article one at a time, so bulk reads hold a single
+     * decoded article rather than the whole catalogue.
+     */
+    public Stream<ArticleV2> streamStored() {
+        return store.ids().stream()
+            .map(store::load)
+            .flatMap(Optional::stream);
+    }
+
+    public ArticleV2 save(ArticleV2 article) {
+        return saveAll(List.of(article)).get(0);
+    }
+
+    /**
+     * Saves a batch of articles; bulk import applies its batches through here.
+     * Each save gets its reading metrics and table of contents computed
+     * from the body and is recorded as a new version in the article's history.
+     * History, store, indexes and change events are updated while holding the
+     * locks of every article in the batch, so concurrent batches touching the
+     * same article leave all of them in the same order.
+     *
+     * <p>If an article fails partway through the batch, the articles already
+     * stored are still indexed and announced before the failure propagates,
+     * so the indexes and the change feed never miss a stored article.</p>
+     *
+     * @return the articles as stored, with their assigned version numbers
+     */
+    public List<ArticleV2> saveAll(List<ArticleV2> batch) {
+        List<ArticleV2> enriched = batch.stream().map(contentAnalyzer::enrich).toList();
+        return locks.withLocks(enriched.stream().map(ArticleV2::id).toList(), () -> {
+            List<Commit> commits = new ArrayList<>(enriched.size());
+            try {
+                for (ArticleV2 incoming : enriched) {
+                    ArticleV2 article = history.append(incoming);
+                    commits.add(new Commit(article, store.save(article)));
+                    sortedIds.add(article.id());
+                    responses.refresh(PrecompressedResponses.articleV2Key(article.id()), article);
+                }
+            } finally {
+                indexAndAnnounce(commits);
+            }
+            return commits.stream().map(Commit::article).toList();
+        });
+    }
+
+    public boolean deleteById(String id) {
+        return locks.withLock(id, () -> {
+            if (!store.delete(id)) {
+                return false;
+            }
+            sortedIds.remove(id);
+            responses.invalidate(PrecompressedResponses.articleV2Key(id));
+            history.remove(id);
+            translationIndex.remove(id);
+            syndicationIndex.remove(id);
+            seriesIndex.remove(id);
+            responses.invalidateListings(PrecompressedResponses.Listing.V2);
+            changeFeed.publish(ChangeEvent.Type.DELETED, ChangeEvent.Model.V2, id);
+            return true;
+        });
+    }
+
+    /**
+     * Brings the indexes and V2 listings up to date with the stored articles,
+     * then publishes their change events.
+     */
+    private void indexAndAnnounce(List<Commit> commits) {
+        if (commits.isEmpty()) {
+            return;
+        }
+        List<ArticleV2> articles = commits.stream().map(Commit::article).toList();
+        translationIndex.index(articles);
+        syndicationIndex.update(articles);
+        seriesIndex.index(articles);
+        responses.invalidateListings(PrecompressedResponses.Listing.V2);
+        for (Commit commit : commits) {
+            ArticleV2 article = commit.article();
+            Optional<ArticleV2> previous = commit.previous();
+            changeFeed.publish(previous.isEmpty() ? ChangeEvent.Type.CREATED : ChangeEvent.Type.UPDATED,
+                ChangeEvent.Model.V2, article.id());
+            if (article.isPublished() && previous.map(p -> !p.isPublished()).orElse(true)) {
+                changeFeed.publish(ChangeEvent.Type.PUBLISHED, ChangeEvent.Model.V2, article.id());
+            }
+        }
+    }
+
+    private record Commit(ArticleV2 article, Optional<ArticleV2> previous) {}
+}
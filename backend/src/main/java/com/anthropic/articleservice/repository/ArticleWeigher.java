@@ -0,0 +1,55 @@
+package com.anthropic.articleservice.repository;
+
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.Article.Section;
+
+import java.util.List;
+
+/**
+ * Rough retained-size estimate for an {@link Article}, used to bound the
+ * hot tier by bytes rather than by entry count. Strings dominate, so the
+ * estimate is characters plus a fixed per-object overhead.
+ */
+final class ArticleWeigher {
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int REFERENCE = 4;
+
+    private ArticleWeigher() {}
+
+    static int weigh(String id, Article article) {
+        long bytes = OBJECT_OVERHEAD + 13L * REFERENCE
+            + size(article.id()) + size(article.title()) + size(article.subtitle())
+            + size(article.date()) + size(article.category()) + size(article.excerpt())
+            + size(article.author()) + size(article.authorRole()) + size(article.heroImage())
+            + size(article.heroImageAlt()) + size(article.tags());
+
+        if (article.sections() != null) {
+            bytes += OBJECT_OVERHEAD + (long) article.sections().size() * REFERENCE;
+            for (Section section : article.sections()) {
+                bytes += OBJECT_OVERHEAD + 9L * REFERENCE
+                    + size(section.type()) + size(section.heading()) + size(section.content())
+                    + size(section.items()) + size(section.imageUrl()) + size(section.imageAlt())
+                    + size(section.imageCaption()) + size(section.codeLanguage()) + size(section.codeSnippet());
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long size(String value) {
+        // Compact strings store Latin-1 text at one byte per char; assume the worst case
+        return value == null ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+
+    private static long size(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        long bytes = OBJECT_OVERHEAD + (long) values.size() * REFERENCE;
+        for (String value : values) {
+            bytes += size(value);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,39 @@
+package com.anthropic.articleservice.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * The stored ids in sorted order, kept next to a store so a listing page
+ * is a slice rather than a sort of the whole catalogue. Repositories update
+ * it under the article's write lock, right after the store write.
+ */
+final class SortedIds {
+
+    private final NavigableSet<String> ids = new ConcurrentSkipListSet<>();
+
+    SortedIds(Collection<String> stored) {
+        ids.addAll(stored);
+    }
+
+    void add(String id) {
+        ids.add(id);
+    }
+
+    void remove(String id) {
+        ids.remove(id);
+    }
+
+    /**
+     * The ids on one page. Walks past the ids of earlier pages without
+     * copying them.
+     */
+    List<String> page(int page, int size) {
+        return ids.stream()
+            .skip((long) page * size)
+            .limit(size)
+            .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.Article;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Backing store for articles. The repository keeps a bounded hot tier in
+ * front of it, so implementations only need to be correct, not fast; a
+ * store may hold far more articles than fit on the heap.
+ */
+public interface ArticleStore {
+
+    Optional<Article> load(String id);
+
+    /**
+     * Stores the article, replacing any existing one with the same id.
+     *
+     * @return {@code true} if no article with this id existed before
+     */
+    boolean save(Article article);
+
+    /**
+     * Stores a batch of articles. Stores with a per-write cost, such as an
+     * fsync, can override this to pay it once per batch.
+     *
+     * @return for each article, whether it was newly created
+     */
+    default List<Boolean> saveAll(List<Article> articles) {
+        List<Boolean> created = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            created.add(save(article));
+        }
+        return created;
+    }
+
+    boolean delete(String id);
+
+    List<String> ids();
+
+    default boolean isEmpty() {
+        return ids().isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Backing store for V2 articles. Unlike {@link ArticleStore} there is no
+ * hot tier in front of it.
+ */
+public interface ArticleV2Store {
+
+    Optional<ArticleV2> load(String id);
+
+    /**
+     * Stores the article, replacing any existing one with the same id.
+     *
+     * @return the replaced article; stores that keep bodies elsewhere may
+     *         return it without its body
+     */
+    Optional<ArticleV2> save(ArticleV2 article);
+
+    boolean delete(String id);
+
+    List<String> ids();
+}
@@ -0,0 +1,142 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Off-heap storage for serialized article bodies, carved out of large
+ * slabs that are either direct buffers or memory-mapped files.
+ *
+ * <p>Space is bump-allocated and never overwritten: a freed body only
+ * lowers its slab's live byte count, so a reader holding an old
+ * {@link Ref} still sees consistent bytes. Slabs whose live bytes drop
+ * below half of what was written are handed back to the owning table for
+ * compaction, and a slab with no live bytes is dropped. Mapped slab files
+ * are unlinked right after mapping, so the page cache can page bodies out
+ * without leaving files behind.</p>
+ *
+ * <p>Not thread-safe for writers; callers serialize allocation and
+ * freeing. Reads need no locking.</p>
+ */
+final class BodyArena {
+
+    private final int slabBytes;
+    private final Path mappedDirectory;
+    private final List<Slab> slabs = new ArrayList<>();
+    private Slab current;
+
+    /**
+     * @param mappedDirectory where to create mapped slab files, or null to
+     *                        use direct buffers
+     */
+    BodyArena(int slabBytes, Path mappedDirectory) {
+        this.slabBytes = slabBytes;
+        this.mappedDirectory = mappedDirectory;
+        if (mappedDirectory != null) {
+            try {
+                Files.createDirectories(mappedDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create body directory " + mappedDirectory, e);
+            }
+        }
+    }
+
+    /**
+     * A body's location. Bodies larger than a slab get a slab of their own.
+     */
+    record Ref(Slab slab, int offset, int length) {}
+
+    Ref allocate(byte[] bytes) {
+        if (current == null || current.capacity() - current.used < bytes.length) {
+            current = newSlab(Math.max(slabBytes, bytes.length));
+        }
+        Ref ref = new Ref(current, current.used, bytes.length);
+        current.buffer.put(current.used, bytes);
+        current.used += bytes.length;
+        current.live += bytes.length;
+        return ref;
+    }
+
+    void free(Ref ref) {
+        Slab slab = ref.slab();
+        slab.live -= ref.length();
+        if (slab.live == 0 && slab != current) {
+            slabs.remove(slab);
+        }
+    }
+
+    InputStream open(Ref ref) {
+        return new ByteBufferBackedInputStream(ref.slab().buffer.slice(ref.offset(), ref.length()));
+    }
+
+    /**
+     * A slab, other than the one being filled, that is less than half live.
+     */
+    Slab sparseSlab() {
+        for (Slab slab : slabs) {
+            if (slab != current && slab.live * 2 < slab.used) {
+                return slab;
+            }
+        }
+        return null;
+    }
+
+    long reservedBytes() {
+        long reserved = 0;
+        for (Slab slab : slabs) {
+            reserved += slab.capacity();
+        }
+        return reserved;
+    }
+
+    long liveBytes() {
+        long live = 0;
+        for (Slab slab : slabs) {
+            live += slab.live;
+        }
+        return live;
+    }
+
+    private Slab newSlab(int capacity) {
+        Slab slab = new Slab(mappedDirectory == null ? ByteBuffer.allocateDirect(capacity) : map(capacity));
+        slabs.add(slab);
+        return slab;
+    }
+
+    private ByteBuffer map(int capacity) {
+        try {
+            Path file = Files.createTempFile(mappedDirectory, "bodies-", ".slab");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            } finally {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map body slab in " + mappedDirectory, e);
+        }
+    }
+
+    static final class Slab {
+        private final ByteBuffer buffer;
+        private int used;
+        private long live;
+
+        private Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private int capacity() {
+            return buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.Article;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stores each article as a JSON file named after its id. Reads go to disk
+ * every time; the repository's hot tier is what keeps them off the
+ * request path.
+ */
+public class FileArticleStore implements ArticleStore {
+
+    private static final String SUFFIX = ".json";
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public FileArticleStore(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create article store at " + directory, e);
+        }
+    }
+
+    @Override
+    public Optional<Article> load(String id) {
+        if (!isValidId(id)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(pathFor(id).toFile(), Article.class));
+        } catch (NoSuchFileException | FileNotFoundException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read article " + id, e);
+        }
+    }
+
+    @Override
+    public boolean save(Article article) {
+        if (!isValidId(article.id())) {
+            throw new IllegalArgumentException("Invalid article id: " + article.id());
+        }
+        Path target = pathFor(article.id());
+        Path temp = null;
+        try {
+            boolean created = !Files.exists(target);
+            temp = Files.createTempFile(directory, article.id(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), article);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            return created;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write article " + article.id(), e);
+        } finally {
+            // Left behind only when the write or move failed
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // The original failure is the one worth reporting
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean delete(String id) {
+        if (!isValidId(id)) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(pathFor(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete article " + id, e);
+        }
+    }
+
+    @Override
+    public List<String> ids() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<String> ids = new ArrayList<>();
+            files.map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(SUFFIX))
+                .forEach(name -> ids.add(name.substring(0, name.length() - SUFFIX.length())));
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list article store " + directory, e);
+        }
+    }
+
+    private Path pathFor(String id) {
+        return directory.resolve(id + SUFFIX);
+    }
+
+    private static boolean isValidId(String id) {
+        return id != null && VALID_ID.matcher(id).matches();
+    }
+}
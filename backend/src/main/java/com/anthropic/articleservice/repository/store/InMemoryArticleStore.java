@@ -0,0 +1,41 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.Article;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Heap-backed store, used by default and for small catalogues.
+ */
+public class InMemoryArticleStore implements ArticleStore {
+
+    private final Map<String, Article> articles = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Article> load(String id) {
+        return Optional.ofNullable(articles.get(id));
+    }
+
+    @Override
+    public boolean save(Article article) {
+        return articles.put(article.id(), article) == null;
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return articles.remove(id) != null;
+    }
+
+    @Override
+    public List<String> ids() {
+        return List.copyOf(articles.keySet());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return articles.isEmpty();
+    }
+}
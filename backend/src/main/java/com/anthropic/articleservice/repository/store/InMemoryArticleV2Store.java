@@ -0,0 +1,36 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Heap-backed V2 store, used by default.
+ */
+public class InMemoryArticleV2Store implements ArticleV2Store {
+
+    private final Map<String, ArticleV2> articles = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<ArticleV2> load(String id) {
+        return Optional.ofNullable(articles.get(id));
+    }
+
+    @Override
+    public Optional<ArticleV2> save(ArticleV2 article) {
+        return Optional.ofNullable(articles.put(article.id(), article));
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return articles.remove(id) != null;
+    }
+
+    @Override
+    public List<String> ids() {
+        return List.copyOf(articles.keySet());
+    }
+}
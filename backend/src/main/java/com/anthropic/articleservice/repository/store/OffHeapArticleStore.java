@@ -0,0 +1,66 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.Article.Section;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps article metadata on the heap and the sections, serialized as
+ * JSON, in off-heap memory. Sections are decoded on every load; the
+ * repository's hot tier holds the decoded form of popular articles within
+ * its byte budget.
+ */
+public class OffHeapArticleStore implements ArticleStore {
+
+    private static final TypeReference<List<Section>> SECTIONS = new TypeReference<>() {};
+
+    private final OffHeapTable<Article> table;
+    private final ObjectMapper objectMapper;
+
+    public OffHeapArticleStore(ObjectMapper objectMapper, OffHeapBodies bodies) {
+        this.table = new OffHeapTable<>(bodies.newArena());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<Article> load(String id) {
+        return table.get(id).map(entry -> table.read(entry, (header, body) ->
+            withSections(header, objectMapper.readValue(body, SECTIONS))));
+    }
+
+    @Override
+    public boolean save(Article article) {
+        try {
+            byte[] sections = objectMapper.writeValueAsBytes(article.sections());
+            return table.put(article.id(), withSections(article, List.of()), sections).isEmpty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode article " + article.id(), e);
+        }
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return table.remove(id);
+    }
+
+    @Override
+    public List<String> ids() {
+        return table.ids();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    private static Article withSections(Article a, List<Section> sections) {
+        return new Article(a.id(), a.title(), a.subtitle(), a.date(), a.category(), a.excerpt(), a.author(),
+            a.authorRole(), a.heroImage(), a.heroImageAlt(), a.readingTimeMinutes(), a.tags(), sections);
+    }
+}
@@ -0,0 +1,60 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps V2 article metadata on the heap and the body blocks, serialized as
+ * JSON, in off-heap memory. Bodies are decoded on every load.
+ */
+public class OffHeapArticleV2Store implements ArticleV2Store {
+
+    private static final TypeReference<List<Content>> BODY = new TypeReference<>() {};
+
+    private final OffHeapTable<ArticleV2> table;
+    private final ObjectMapper objectMapper;
+
+    public OffHeapArticleV2Store(ObjectMapper objectMapper, OffHeapBodies bodies) {
+        this.table = new OffHeapTable<>(bodies.newArena());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<ArticleV2> load(String id) {
+        return table.get(id).map(this::decode);
+    }
+
+    @Override
+    public Optional<ArticleV2> save(ArticleV2 article) {
+        try {
+            byte[] body = objectMapper.writerFor(BODY).writeValueAsBytes(article.body());
+            return table.put(article.id(), article.toBuilder().body(List.of()).build(), body)
+                .map(OffHeapTable.Entry::header);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode article " + article.id(), e);
+        }
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return table.remove(id);
+    }
+
+    @Override
+    public List<String> ids() {
+        return table.ids();
+    }
+
+    private ArticleV2 decode(OffHeapTable.Entry<ArticleV2> entry) {
+        return table.read(entry, (header, body) -> header.toBuilder()
+            .body(objectMapper.readerFor(BODY).readValue(body))
+            .build());
+    }
+}
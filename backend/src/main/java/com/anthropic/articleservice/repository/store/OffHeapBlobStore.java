@@ -0,0 +1,85 @@
+package com.anthropic.articleservice.repository.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Content-addressed, reference-counted blobs kept in off-heap memory.
+ * Identical blobs are stored once whoever retains them, and a blob's space
+ * is freed when its last reference is released.
+ */
+public final class OffHeapBlobStore {
+
+    @FunctionalInterface
+    public interface BlobReader<T> {
+        T read(InputStream blob) throws IOException;
+    }
+
+    private final OffHeapTable<Void> table;
+    private final Map<String, Integer> references = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public OffHeapBlobStore(OffHeapBodies bodies) {
+        this.table = new OffHeapTable<>(bodies.newArena());
+    }
+
+    /**
+     * Stores {@code bytes} unless an identical blob is already stored, and
+     * takes a reference to it. Every call must be matched by a
+     * {@link #release}.
+     *
+     * @return the blob's key
+     */
+    public String retain(byte[] bytes) {
+        String key = key(bytes);
+        lock.lock();
+        try {
+            if (references.merge(key, 1, Integer::sum) == 1) {
+                table.put(key, null, bytes);
+            }
+            return key;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(String key) {
+        lock.lock();
+        try {
+            if (references.merge(key, -1, Integer::sum) == 0) {
+                references.remove(key);
+                table.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads a blob the caller holds a reference to.
+     */
+    public <T> T read(String key, BlobReader<T> reader) {
+        OffHeapTable.Entry<Void> entry = table.get(key)
+            .orElseThrow(() -> new IllegalStateException("No blob " + key));
+        return table.read(entry, (header, blob) -> reader.read(blob));
+    }
+
+    public long reservedBytes() {
+        return table.reservedBytes();
+    }
+
+    private static String key(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.anthropic.articleservice.repository.store;
+
+import java.nio.file.Path;
+
+/**
+ * Settings for off-heap article bodies: slab size, and whether slabs are
+ * direct buffers or memory-mapped files.
+ *
+ * @param mappedDirectory directory for mapped slab files, or null for
+ *                        direct buffers
+ */
+public record OffHeapBodies(boolean enabled, int slabBytes, Path mappedDirectory) {
+
+    BodyArena newArena() {
+        return new BodyArena(slabBytes, mappedDirectory);
+    }
+}
@@ -0,0 +1,124 @@
+package com.anthropic.articleservice.repository.store;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps a small on-heap header per id and the serialized body in a
+ * {@link BodyArena}. Writers are serialized; readers go straight to the
+ * map and the arena.
+ *
+ * @param <H> the on-heap header, typically the article without its body
+ */
+final class OffHeapTable<H> {
+
+    @FunctionalInterface
+    interface BodyReader<H, T> {
+        T read(H header, InputStream body) throws IOException;
+    }
+
+    record Entry<H>(H header, BodyArena.Ref body) {}
+
+    private final Map<String, Entry<H>> entries = new ConcurrentHashMap<>();
+    private final BodyArena arena;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    OffHeapTable(BodyArena arena) {
+        this.arena = arena;
+    }
+
+    Optional<Entry<H>> get(String id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    <T> T read(Entry<H> entry, BodyReader<H, T> reader) {
+        try (InputStream body = arena.open(entry.body())) {
+            return reader.read(entry.header(), body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode off-heap body", e);
+        }
+    }
+
+    /**
+     * @return the entry that was replaced, if any
+     */
+    Optional<Entry<H>> put(String id, H header, byte[] body) {
+        writeLock.lock();
+        try {
+            Entry<H> previous = entries.put(id, new Entry<>(header, arena.allocate(body)));
+            if (previous != null) {
+                release(previous);
+            }
+            return Optional.ofNullable(previous);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    boolean remove(String id) {
+        writeLock.lock();
+        try {
+            Entry<H> previous = entries.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            release(previous);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    List<String> ids() {
+        return List.copyOf(entries.keySet());
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    long reservedBytes() {
+        writeLock.lock();
+        try {
+            return arena.reservedBytes();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void release(Entry<H> entry) {
+        arena.free(entry.body());
+        BodyArena.Slab sparse = arena.sparseSlab();
+        if (sparse != null) {
+            compact(sparse);
+        }
+    }
+
+    /**
+     * Moves the live bodies out of a sparse slab, after which the arena
+     * drops it. Readers that already hold the old location keep reading the
+     * old copy.
+     */
+    private void compact(BodyArena.Slab slab) {
+        for (Map.Entry<String, Entry<H>> mapping : entries.entrySet()) {
+            Entry<H> entry = mapping.getValue();
+            if (entry.body().slab() != slab) {
+                continue;
+            }
+            byte[] bytes;
+            try (InputStream in = arena.open(entry.body())) {
+                bytes = in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot move off-heap body", e);
+            }
+            mapping.setValue(new Entry<>(entry.header(), arena.allocate(bytes)));
+            arena.free(entry.body());
+        }
+    }
+}
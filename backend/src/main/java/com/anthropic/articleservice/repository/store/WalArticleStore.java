@@ -0,0 +1,441 @@
+package com.anthropic.articleservice.repository.store;
+
+import com.anthropic.articleservice.model.Article;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Heap-backed store made durable by an append-only write-ahead log.
+ *
+ * <p>Writers encode their record, queue it and wait. A single committer
+ * thread drains everything queued, appends it with one write, fsyncs once
+ * and only then applies the batch to the in-memory map and releases the
+ * writers, so concurrent writers share an fsync and nothing is visible
+ * before it is durable.</p>
+ *
+ * <p>The log is split into numbered segments. When the current segment
+ * passes {@code compactBytes}, or {@code compactInterval} has elapsed, the
+ * committer starts a new segment and hands a copy of the map to a
+ * background thread, which writes {@code snapshot-N.dat} covering segments
+ * up to N and then deletes them. Startup streams the newest snapshot and
+ * the segments after it; a torn record at the end of the last segment
+ * (a crash mid-write, never acknowledged) is truncated away.</p>
+ */
+public class WalArticleStore implements ArticleStore, AutoCloseable {
+
+    private static final Pattern SEGMENT = Pattern.compile("wal-(\\d{12})\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d{12})\\.dat");
+    private static final int MAX_BATCH = 1024;
+    private static final long MAX_BATCH_BYTES = 16 << 20;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final long compactBytes;
+    private final long compactIntervalNanos;
+
+    private final Map<String, Article> articles = new ConcurrentHashMap<>();
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "article-wal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong syncs = new AtomicLong();
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    // Owned by the committer thread once started
+    private long segment;
+    private FileChannel log;
+    private long segmentBytes;
+    private long lastCompaction = System.nanoTime();
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    public WalArticleStore(Path directory, ObjectMapper objectMapper, long compactBytes, Duration compactInterval) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.compactBytes = compactBytes;
+        this.compactIntervalNanos = compactInterval.toNanos();
+        try {
+            Files.createDirectories(directory);
+            recover();
+            openSegment(segment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open write-ahead log at " + directory, e);
+        }
+        this.committer = new Thread(this::commitLoop, "article-wal-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    @Override
+    public Optional<Article> load(String id) {
+        return Optional.ofNullable(articles.get(id));
+    }
+
+    @Override
+    public boolean save(Article article) {
+        return await(enqueue(put(article)));
+    }
+
+    /**
+     * Queues the whole batch before waiting, so it is usually committed
+     * with a single fsync.
+     */
+    @Override
+    public List<Boolean> saveAll(List<Article> batch) {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(batch.size());
+        for (Article article : batch) {
+            results.add(enqueue(put(article)));
+        }
+        List<Boolean> created = new ArrayList<>(results.size());
+        for (CompletableFuture<Boolean> result : results) {
+            created.add(await(result));
+        }
+        return created;
+    }
+
+    @Override
+    public boolean delete(String id) {
+        if (!articles.containsKey(id)) {
+            return false;
+        }
+        return await(enqueue(new Pending(WalFormat.DELETE, id, null,
+            WalFormat.frame(WalFormat.DELETE, id.getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    @Override
+    public List<String> ids() {
+        return List.copyOf(articles.keySet());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return articles.isEmpty();
+    }
+
+    /**
+     * Number of fsyncs issued for the log since startup.
+     */
+    public long syncCount() {
+        return syncs.get();
+    }
+
+    /**
+     * Commits everything already queued, waits for a running compaction and
+     * closes the log.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            committer.join();
+            compactor.shutdown();
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.close();
+    }
+
+    private Pending put(Article article) {
+        try {
+            return new Pending(WalFormat.PUT, article.id(), article,
+                WalFormat.frame(WalFormat.PUT, objectMapper.writeValueAsBytes(article)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode article " + article.id(), e);
+        }
+    }
+
+    private CompletableFuture<Boolean> enqueue(Pending pending) {
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log failed", failure);
+        }
+        queue.add(pending);
+        return pending.result;
+    }
+
+    private static boolean await(CompletableFuture<Boolean> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Anything the committer throws is recorded as the log's failure and
+     * fails the batch in hand; the loop keeps running so that later writers
+     * are failed too instead of waiting forever.
+     */
+    private void commitLoop() {
+        List<Pending> batch = new ArrayList<>(MAX_BATCH);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    drainBatch(batch, first.frame.length);
+                    commit(batch);
+                    batch.clear();
+                }
+                maybeCompact();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                failure = e instanceof IOException io ? io : new IOException("Write-ahead log committer failed", e);
+                fail(batch, failure);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds queued records to the batch while it stays under
+     * {@link #MAX_BATCH} records and {@link #MAX_BATCH_BYTES}. The committer
+     * is the only consumer, so a peeked record is still there to poll.
+     */
+    private void drainBatch(List<Pending> batch, long bytes) {
+        Pending next;
+        while (batch.size() < MAX_BATCH && (next = queue.peek()) != null
+                && bytes + next.frame.length <= MAX_BATCH_BYTES) {
+            bytes += queue.poll().frame.length;
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        if (failure != null) {
+            fail(batch, failure);
+            return;
+        }
+        long size = 0;
+        for (Pending pending : batch) {
+            size += pending.frame.length;
+        }
+        // drainBatch keeps this within MAX_BATCH_BYTES, or one record of at most WalFormat.MAX_RECORD_BYTES
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+        for (Pending pending : batch) {
+            buffer.put(pending.frame);
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                log.write(buffer);
+            }
+            log.force(false);
+            syncs.incrementAndGet();
+            segmentBytes += size;
+        } catch (IOException e) {
+            // The segment may now end in a partial record; stop writing so it stays the last one
+            failure = e;
+            fail(batch, e);
+            return;
+        }
+        for (Pending pending : batch) {
+            boolean changed = pending.op == WalFormat.PUT
+                ? articles.put(pending.id, pending.article) == null
+                : articles.remove(pending.id) != null;
+            pending.result.complete(changed);
+        }
+    }
+
+    private static void fail(List<Pending> batch, IOException cause) {
+        UncheckedIOException error = new UncheckedIOException("Cannot append to write-ahead log", cause);
+        batch.forEach(pending -> pending.result.completeExceptionally(error));
+    }
+
+    private void maybeCompact() {
+        long now = System.nanoTime();
+        boolean due = segmentBytes >= compactBytes || (segmentBytes > 0 && now - lastCompaction >= compactIntervalNanos);
+        if (!due || !compaction.isDone() || failure != null) {
+            return;
+        }
+        long covered = segment;
+        try {
+            log.close();
+            openSegment(segment + 1);
+        } catch (IOException e) {
+            failure = e;
+            return;
+        }
+        lastCompaction = now;
+        // Articles are immutable, so a copy of the map is a consistent view as of the end of `covered`
+        Map<String, Article> state = Map.copyOf(articles);
+        compaction = compactor.submit(() -> writeSnapshot(covered, state));
+    }
+
+    private void writeSnapshot(long covered, Map<String, Article> state) {
+        Path target = directory.resolve(snapshotName(covered));
+        Path temp = directory.resolve(snapshotName(covered) + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16)) {
+                for (Article article : state.values()) {
+                    out.write(WalFormat.frame(WalFormat.PUT, objectMapper.writeValueAsBytes(article)));
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+            deleteCoveredFiles(covered);
+        } catch (IOException e) {
+            // The segments are still there; the next compaction retries
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // best effort
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        TreeMap<Long, Path> snapshots = numbered(SNAPSHOT);
+        TreeMap<Long, Path> segments = numbered(SEGMENT);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(path -> path.toString().endsWith(".tmp")).toList()) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        long covered = 0;
+        if (!snapshots.isEmpty()) {
+            covered = snapshots.lastKey();
+            Path snapshot = snapshots.lastEntry().getValue();
+            long valid = WalFormat.read(snapshot, this::replay);
+            if (valid != Files.size(snapshot)) {
+                throw new IOException("Corrupt snapshot " + snapshot);
+            }
+        }
+
+        segment = covered;
+        for (Map.Entry<Long, Path> entry : segments.entrySet()) {
+            Path file = entry.getValue();
+            if (entry.getKey() <= covered) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            long valid = WalFormat.read(file, this::replay);
+            segment = entry.getKey();
+            if (valid != Files.size(file)) {
+                if (!entry.getKey().equals(segments.lastKey())) {
+                    throw new IOException("Corrupt write-ahead log segment " + file);
+                }
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(valid);
+                    channel.force(true);
+                }
+            }
+            if (valid == 0) {
+                Files.delete(file);
+            }
+        }
+        for (Map.Entry<Long, Path> entry : snapshots.headMap(covered).entrySet()) {
+            Files.deleteIfExists(entry.getValue());
+        }
+    }
+
+    private void replay(byte op, byte[] payload) throws IOException {
+        if (op == WalFormat.PUT) {
+            Article article = objectMapper.readValue(payload, Article.class);
+            articles.put(article.id(), article);
+        } else if (op == WalFormat.DELETE) {
+            articles.remove(new String(payload, StandardCharsets.UTF_8));
+        } else {
+            throw new IOException("Unknown write-ahead log record type " + op);
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        segment = number;
+        segmentBytes = 0;
+        log = FileChannel.open(directory.resolve(String.format("wal-%012d.log", number)),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        syncDirectory();
+    }
+
+    private void deleteCoveredFiles(long covered) throws IOException {
+        for (Map.Entry<Long, Path> entry : numbered(SEGMENT).headMap(covered, true).entrySet()) {
+            Files.deleteIfExists(entry.getValue());
+        }
+        for (Map.Entry<Long, Path> entry : numbered(SNAPSHOT).headMap(covered).entrySet()) {
+            Files.deleteIfExists(entry.getValue());
+        }
+    }
+
+    private TreeMap<Long, Path> numbered(Pattern pattern) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> list = Files.list(directory)) {
+            list.forEach(path -> {
+                Matcher matcher = pattern.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    files.put(Long.parseLong(matcher.group(1)), path);
+                }
+            });
+        }
+        return files;
+    }
+
+    /**
+     * Makes file creations and renames in the directory durable. Not all
+     * platforms allow opening a directory; there it is skipped.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // unsupported on this platform
+        }
+    }
+
+    private static String snapshotName(long covered) {
+        return String.format("snapshot-%012d.dat", covered);
+    }
+
+    private record Pending(byte op, String id, Article article, byte[] frame, CompletableFuture<Boolean> result) {
+        Pending(byte op, String id, Article article, byte[] frame) {
+            this(op, id, article, frame, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.anthropic.articleservice.repository.store;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+/**
+ * Record framing shared by log segments and snapshots:
+ * {@code [int length][int crc32c][byte op][payload]}, where length covers
+ * the op byte and payload and the checksum covers the same bytes. A frame
+ * that is cut short or fails its checksum marks the end of the valid data,
+ * and so does a length over {@link #MAX_RECORD_BYTES}, which {@link #frame}
+ * refuses to write.
+ */
+final class WalFormat {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int HEADER_BYTES = 8;
+    static final int MAX_RECORD_BYTES = 64 << 20;
+
+    private WalFormat() {}
+
+    static byte[] frame(byte op, byte[] payload) {
+        if (payload.length >= MAX_RECORD_BYTES) {
+            // Replay would read it as the torn end of the log and drop it
+            throw new IllegalArgumentException("Record of " + payload.length
+                + " bytes exceeds the write-ahead log limit of " + (MAX_RECORD_BYTES - 1));
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(op);
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + 1 + payload.length)
+            .putInt(1 + payload.length)
+            .putInt((int) crc.getValue())
+            .put(op)
+            .put(payload)
+            .array();
+    }
+
+    interface RecordHandler {
+        void accept(byte op, byte[] payload) throws IOException;
+    }
+
+    /**
+     * Streams the records of a file to {@code handler}.
+     *
+     * @return the offset just past the last valid record
+     */
+    static long read(Path file, RecordHandler handler) throws IOException {
+        long offset = 0;
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw, 1 << 16))) {
+            while (true) {
+                int length;
+                int checksum;
+                byte[] body;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length < 1 || length > MAX_RECORD_BYTES) {
+                        return offset;
+                    }
+                    body = in.readNBytes(length);
+                } catch (EOFException e) {
+                    return offset;
+                }
+                if (body.length < length) {
+                    return offset;
+                }
+                CRC32C crc = new CRC32C();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    return offset;
+                }
+                byte[] payload = new byte[length - 1];
+                System.arraycopy(body, 1, payload, 0, payload.length);
+                handler.accept(body[0], payload);
+                offset += HEADER_BYTES + length;
+            }
+        }
+    }
+}
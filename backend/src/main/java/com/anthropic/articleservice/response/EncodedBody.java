@@ -0,0 +1,21 @@
+package com.anthropic.articleservice.response;
+
+/**
+ * A serialized JSON body together with its pre-compressed encodings.
+ *
+ * @param typeTag       the metrics type tag of the object it was serialized from
+ * @param gzipNanos     time spent producing the gzip encoding
+ * @param deflateNanos  time spent producing the deflate encoding
+ */
+record EncodedBody(
+    String typeTag,
+    byte[] identity,
+    byte[] gzip,
+    byte[] deflate,
+    long gzipNanos,
+    long deflateNanos
+) {
+    int weight() {
+        return identity.length + gzip.length + deflate.length;
+    }
+}
@@ -0,0 +1,324 @@
+package com.anthropic.articleservice.response;
+
+import com.anthropic.articleservice.config.WireFormats;
+import com.anthropic.articleservice.metrics.ArticleMetrics;
+import com.anthropic.articleservice.metrics.MeteredWrite;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the JSON body of each article and listing page together with its
+ * gzip and deflate encodings, so a request only picks bytes instead of
+ * serializing and compressing.
+ *
+ * <p>A stored body is current by construction: the repositories replace
+ * or drop an article's body in the same critical section as the store
+ * write, and every write moves that model's listings (V1, or V2 in any
+ * locale) to a new generation of keys.
+ * Saves re-encode bodies that are in use, so a hot article is compressed
+ * once per content change, at maximum compression since the cost is paid
+ * once; a save that leaves the JSON unchanged keeps the existing
+ * encodings. Other bodies are encoded on their first request.</p>
+ *
+ * <p>With {@code articles.compression.enabled=false} nothing is stored:
+ * every response is serialized from a fresh load and sent uncompressed,
+ * the way a plain controller would.</p>
+ *
+ * <p>Serialization time and payload size are recorded under the same
+ * metrics as the JSON converter: serialization when a body is encoded,
+ * payload size for every response served from it.</p>
+ *
+ * <p>Misses are single-flight in the same way as {@code ArticleCache}:
+ * the first caller installs a pending body and runs the loader, concurrent
+ * callers wait on it, and a write during the load drops or replaces the
+ * pending entry so a stale body is never kept.</p>
+ */
+@Component
+public class PrecompressedResponses {
+
+    enum Encoding { GZIP, DEFLATE, IDENTITY }
+
+    /**
+     * The article listings, each invalidated by writes to its own model.
+     */
+    public enum Listing {
+        V1("articles:"),
+        V2("v2:articles:");
+
+        private final String prefix;
+
+        Listing(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ArticleMetrics metrics;
+    private final boolean enabled;
+    private final AsyncCache<String, EncodedBody> bodies;
+    private final Map<Listing, AtomicLong> listingGenerations = new EnumMap<>(Listing.class);
+
+    public PrecompressedResponses(
+            ObjectMapper objectMapper,
+            ArticleMetrics metrics,
+            @Value("${articles.compression.enabled:true}") boolean enabled,
+            @Value("${articles.compression.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.bodies = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .<String, EncodedBody>weigher((key, body) -> body.weight())
+            .buildAsync();
+        for (Listing listing : Listing.values()) {
+            listingGenerations.put(listing, new AtomicLong());
+        }
+    }
+
+    public static String articleKey(String id) {
+        return "article:" + id;
+    }
+
+    public static String articleV2Key(String id) {
+        return "v2:article:" + id;
+    }
+
+    /**
+     * The key for one listing page under the listing's current generation.
+     */
+    public String listingKey(Listing listing, int page, int size) {
+        return listingKey(listing, "", page, size);
+    }
+
+    /**
+     * The key for one page of a filtered listing, such as a V2 locale
+     * listing, under the listing's current generation.
+     */
+    public String listingKey(Listing listing, String filter, int page, int size) {
+        return listing.prefix + listingGenerations.get(listing).get() + ':' + page + ':' + size + ':' + filter;
+    }
+
+    /**
+     * Serves the body stored under {@code key}, encoding whatever
+     * {@code loader} returns on a miss.
+     *
+     * @return empty if the loader finds nothing
+     */
+    public Optional<ResponseEntity<byte[]>> respond(String key, Supplier<? extends Optional<?>> loader,
+                                                    String acceptEncoding) {
+        if (!enabled) {
+            return loader.get().map(source -> {
+                byte[] identity = serialize(source);
+                MeteredWrite.served(metrics, "json", MeteredWrite.typeTag(source), identity.length);
+                return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(WireFormats.VARY)
+                    .body(identity);
+            });
+        }
+        Encoding encoding = negotiate(acceptEncoding);
+        CompletableFuture<EncodedBody> load = new CompletableFuture<>();
+        CompletableFuture<EncodedBody> shared = bodies.get(key, (k, executor) -> load);
+        if (shared == load) {
+            runLoad(load, loader);
+        }
+        EncodedBody body = join(shared);
+        if (body == null) {
+            return Optional.empty();
+        }
+        MeteredWrite.served(metrics, "json", body.typeTag(), body.identity().length);
+        if (shared != load && encoding != Encoding.IDENTITY) {
+            long saved = encoding == Encoding.GZIP ? body.gzipNanos() : body.deflateNanos();
+            metrics.compressionCpuSaved().record(saved, TimeUnit.NANOSECONDS);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(WireFormats.VARY);
+        return Optional.of(switch (encoding) {
+            case GZIP -> response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+            case DEFLATE -> response.header(HttpHeaders.CONTENT_ENCODING, "deflate").body(body.deflate());
+            case IDENTITY -> response.body(body.identity());
+        });
+    }
+
+    /**
+     * Encodes the body for {@code key} ahead of its first request, unless
+     * one is already stored or being encoded.
+     */
+    public void warm(String key, Supplier<? extends Optional<?>> loader) {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture<EncodedBody> load = new CompletableFuture<>();
+        if (bodies.get(key, (k, executor) -> load) == load) {
+            runLoad(load, loader);
+        }
+    }
+
+    /**
+     * Re-encodes the body stored under {@code key} from a newly saved
+     * {@code source}. Call after the store write, while holding the
+     * article's lock; keys with no stored body are left to their first
+     * request.
+     */
+    public void refresh(String key, Object source) {
+        CompletableFuture<EncodedBody> current = bodies.getIfPresent(key);
+        if (current == null) {
+            return;
+        }
+        EncodedBody previous = current.isDone() && !current.isCompletedExceptionally() ? current.join() : null;
+        bodies.put(key, CompletableFuture.completedFuture(encode(source, previous)));
+    }
+
+    public void invalidate(String key) {
+        bodies.synchronous().invalidate(key);
+    }
+
+    /**
+     * Moves a listing to a new key generation after a write to its model,
+     * so a page encoded before the write is never served after it.
+     */
+    public void invalidateListings(Listing listing) {
+        listingGenerations.get(listing).incrementAndGet();
+        bodies.synchronous().asMap().keySet().removeIf(key -> key.startsWith(listing.prefix));
+    }
+
+    private void runLoad(CompletableFuture<EncodedBody> load, Supplier<? extends Optional<?>> loader) {
+        try {
+            load.complete(loader.get().map(source -> encode(source, null)).orElse(null));
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+        }
+    }
+
+    private EncodedBody encode(Object source, EncodedBody previous) {
+        byte[] identity = serialize(source);
+        if (previous != null && Arrays.equals(previous.identity(), identity)) {
+            return previous;
+        }
+
+        long start = System.nanoTime();
+        byte[] gzip = gzip(identity);
+        long gzipNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        byte[] deflate = deflate(identity);
+        long deflateNanos = System.nanoTime() - start;
+
+        metrics.compressionRatio("gzip").record((double) gzip.length / identity.length);
+        metrics.compressionRatio("deflate").record((double) deflate.length / identity.length);
+        return new EncodedBody(MeteredWrite.typeTag(source), identity, gzip, deflate, gzipNanos, deflateNanos);
+    }
+
+    private byte[] serialize(Object source) {
+        try {
+            return MeteredWrite.serialize(metrics, "json", source, () -> objectMapper.writeValueAsBytes(source));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize response body", e);
+        }
+    }
+
+    /**
+     * Picks gzip, then deflate, then identity, skipping any coding the
+     * client refuses with {@code q=0}.
+     */
+    static Encoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Encoding.IDENTITY;
+        }
+        boolean gzip = false;
+        boolean deflate = false;
+        boolean wildcard = false;
+        boolean gzipRefused = false;
+        boolean deflateRefused = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = true;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            switch (coding) {
+                case "gzip", "x-gzip" -> { gzip |= accepted; gzipRefused |= !accepted; }
+                case "deflate" -> { deflate |= accepted; deflateRefused |= !accepted; }
+                case "*" -> wildcard = accepted;
+                default -> { }
+            }
+        }
+        if (gzip || (wildcard && !gzipRefused)) {
+            return Encoding.GZIP;
+        }
+        if (deflate || (wildcard && !deflateRefused)) {
+            return Encoding.DEFLATE;
+        }
+        return Encoding.IDENTITY;
+    }
+
+    private static EncodedBody join(CompletableFuture<EncodedBody> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static byte[] gzip(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 3);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,156 @@
+package com.anthropic.articleservice.series;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Taxonomy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reading order of every V2 series, so previous/next/all lookups never
+ * scan the catalogue.
+ *
+ * <p>Members are ordered by {@code seriesOrder}, with unnumbered parts last
+ * and ties broken by id. Each series is kept as an immutable list of ids,
+ * and each member maps to that list and its position in it, so navigation
+ * is a single map lookup plus an index into the list. A save rebuilds
+ * only the series its batch touched.</p>
+ */
+@Component
+public class SeriesIndex {
+
+    private static final Comparator<Member> READING_ORDER = Comparator
+        .comparing(Member::order, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Member::articleId);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Written under the lock only
+    private final Map<String, Map<String, Member>> membersBySeries = new HashMap<>();
+    private final Map<String, Member> members = new HashMap<>();
+    // Read without locking
+    private final Map<String, Position> positions = new ConcurrentHashMap<>();
+
+    public Optional<SeriesNavigation> navigation(String articleId) {
+        Position position = positions.get(articleId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        Series series = position.series();
+        int index = position.index();
+        return Optional.of(new SeriesNavigation(
+            series.id(), series.name(), index + 1, series.articleIds().size(),
+            neighbour(series, index - 1), neighbour(series, index + 1), series.articleIds()));
+    }
+
+    /**
+     * Ids of the articles just before and after {@code articleId} in its
+     * series, previous first.
+     */
+    public List<String> neighbours(String articleId) {
+        Position position = positions.get(articleId);
+        if (position == null) {
+            return List.of();
+        }
+        List<String> neighbours = new ArrayList<>(2);
+        String previous = neighbour(position.series(), position.index() - 1);
+        String next = neighbour(position.series(), position.index() + 1);
+        if (previous != null) {
+            neighbours.add(previous);
+        }
+        if (next != null) {
+            neighbours.add(next);
+        }
+        return neighbours;
+    }
+
+    public void index(Collection<ArticleV2> batch) {
+        writeLock.lock();
+        try {
+            Set<String> touched = new HashSet<>();
+            for (ArticleV2 article : batch) {
+                Member previous = members.remove(article.id());
+                if (previous != null) {
+                    membersBySeries.get(previous.seriesId()).remove(article.id());
+                    touched.add(previous.seriesId());
+                }
+                String seriesId = seriesId(article.series());
+                if (seriesId == null) {
+                    positions.remove(article.id());
+                    continue;
+                }
+                Member member = new Member(article.id(), seriesId, article.series().name(), article.seriesOrder());
+                members.put(article.id(), member);
+                membersBySeries.computeIfAbsent(seriesId, id -> new HashMap<>()).put(article.id(), member);
+                touched.add(seriesId);
+            }
+            touched.forEach(this::rebuild);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(String articleId) {
+        writeLock.lock();
+        try {
+            Member previous = members.remove(articleId);
+            if (previous == null) {
+                return;
+            }
+            positions.remove(articleId);
+            membersBySeries.get(previous.seriesId()).remove(articleId);
+            rebuild(previous.seriesId());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void rebuild(String seriesId) {
+        Map<String, Member> current = membersBySeries.get(seriesId);
+        if (current == null) {
+            return;
+        }
+        if (current.isEmpty()) {
+            membersBySeries.remove(seriesId);
+            return;
+        }
+        List<Member> ordered = new ArrayList<>(current.values());
+        ordered.sort(READING_ORDER);
+        // The name comes from any member; they normally agree
+        Series series = new Series(seriesId, ordered.get(0).seriesName(),
+            ordered.stream().map(Member::articleId).toList());
+        for (int i = 0; i < ordered.size(); i++) {
+            positions.put(ordered.get(i).articleId(), new Position(series, i));
+        }
+    }
+
+    private static String neighbour(Series series, int index) {
+        return index >= 0 && index < series.articleIds().size() ? series.articleIds().get(index) : null;
+    }
+
+    private static String seriesId(Taxonomy series) {
+        if (series == null) {
+            return null;
+        }
+        if (series.id() != null && !series.id().isBlank()) {
+            return series.id();
+        }
+        return series.slug() != null && !series.slug().isBlank() ? series.slug() : null;
+    }
+
+    private record Member(String articleId, String seriesId, String seriesName, Integer order) {}
+
+    private record Series(String id, String name, List<String> articleIds) {}
+
+    private record Position(Series series, int index) {}
+}
@@ -0,0 +1,18 @@
+package com.anthropic.articleservice.series;
+
+import java.util.List;
+
+/**
+ * Where an article sits in its series. {@code position} is 1-based;
+ * {@code previous} and {@code next} are null at either end. {@code members}
+ * holds the ids of the whole series in reading order.
+ */
+public record SeriesNavigation(
+    String seriesId,
+    String seriesName,
+    int position,
+    int size,
+    String previous,
+    String next,
+    List<String> members
+) {}
@@ -0,0 +1,85 @@
+package com.anthropic.articleservice.series;
+
+import com.anthropic.articleservice.repository.ArticleV2Repository;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the stored responses for the previous and next parts of a series
+ * whenever one part is served, so following a series link is a cache hit.
+ *
+ * <p>Prefetching is best effort: it runs on a small bounded pool, a
+ * neighbour already queued is not queued again, and when the queue is full
+ * the prefetch is dropped and the neighbour is encoded on its own request
+ * as usual.</p>
+ */
+@Component
+public class SeriesPrefetcher {
+
+    private final SeriesIndex seriesIndex;
+    private final ArticleV2Repository articleRepository;
+    private final PrecompressedResponses precompressedResponses;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public SeriesPrefetcher(
+            SeriesIndex seriesIndex,
+            ArticleV2Repository articleRepository,
+            PrecompressedResponses precompressedResponses,
+            @Value("${articles.series.prefetch.enabled:true}") boolean enabled,
+            @Value("${articles.series.prefetch.threads:1}") int threads,
+            @Value("${articles.series.prefetch.queue-capacity:256}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.seriesIndex = seriesIndex;
+        this.articleRepository = articleRepository;
+        this.precompressedResponses = precompressedResponses;
+        this.enabled = enabled;
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("series-prefetch-", 1).factory()
+            : Thread.ofPlatform().name("series-prefetch-", 1).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public void prefetchNeighbours(String articleId) {
+        if (!enabled) {
+            return;
+        }
+        for (String neighbour : seriesIndex.neighbours(articleId)) {
+            if (!pending.add(neighbour)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        precompressedResponses.warm(PrecompressedResponses.articleV2Key(neighbour),
+                            () -> articleRepository.findById(neighbour));
+                    } finally {
+                        pending.remove(neighbour);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.remove(neighbour);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
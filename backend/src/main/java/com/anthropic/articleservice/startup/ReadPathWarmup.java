@@ -0,0 +1,177 @@
+package com.anthropic.articleservice.startup;
+
+import com.anthropic.articleservice.model.Article;
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.Content;
+import com.anthropic.articleservice.repository.ArticleRepository;
+import com.anthropic.articleservice.response.PrecompressedResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Warms the read path before the service reports ready.
+ *
+ * <p>Application runners complete before Spring Boot publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC}, so while this runs the server
+ * is listening but {@code /actuator/health/readiness} still reports
+ * out-of-service. The warm-up loads the popular articles into the cache and
+ * stores their compressed JSON bodies, does the same for the first listing
+ * page, makes Jackson introspect both article models in both directions,
+ * and then sends loopback requests so the servlet stack, converters and
+ * serializers are JIT-compiled before real traffic arrives. It stops at
+ * {@code articles.warmup.max-duration} whatever its progress.</p>
+ *
+ * <p>Popular articles are the ids listed in {@code articles.warmup.ids},
+ * then the hottest entries of the hot tier, up to
+ * {@code articles.warmup.articles} in total. When neither names any
+ * article, the loopback requests read the articles on the sample page
+ * instead, which are already loaded.</p>
+ */
+@Component
+public class ReadPathWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadPathWarmup.class);
+
+    private final ArticleRepository articleRepository;
+    private final PrecompressedResponses precompressedResponses;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final boolean enabled;
+    private final List<String> configuredIds;
+    private final int hotArticles;
+    private final int pageSize;
+    private final int requests;
+    private final Duration maxDuration;
+
+    public ReadPathWarmup(
+            ArticleRepository articleRepository,
+            PrecompressedResponses precompressedResponses,
+            ObjectMapper objectMapper,
+            Environment environment,
+            @Value("${articles.warmup.enabled:true}") boolean enabled,
+            @Value("${articles.warmup.ids:}") List<String> configuredIds,
+            @Value("${articles.warmup.articles:100}") int hotArticles,
+            @Value("${articles.listing.page-size:100}") int pageSize,
+            @Value("${articles.warmup.requests:500}") int requests,
+            @Value("${articles.warmup.max-duration:10s}") Duration maxDuration) {
+        this.articleRepository = articleRepository;
+        this.precompressedResponses = precompressedResponses;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.configuredIds = configuredIds;
+        this.hotArticles = hotArticles;
+        this.pageSize = pageSize;
+        this.requests = requests;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+
+        // Ranked before the sample page goes through the hot tier and skews it
+        List<String> popular = popularIds();
+        List<Article> page = articleRepository.findPage(0, pageSize);
+        precompressedResponses.warm(precompressedResponses.listingKey(PrecompressedResponses.Listing.V1, 0, pageSize),
+            () -> Optional.of(articleRepository.findPage(0, pageSize)));
+
+        List<String> hot = new ArrayList<>();
+        for (String id : popular) {
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            if (articleRepository.findById(id).isPresent()) {
+                precompressedResponses.warm(PrecompressedResponses.articleKey(id), () -> articleRepository.findById(id));
+                hot.add(id);
+            }
+        }
+        introspect(page);
+
+        List<String> targets = !hot.isEmpty() ? hot : page.stream().map(Article::id).toList();
+        int sent = 0;
+        String port = environment.getProperty("local.server.port");
+        if (port != null && !targets.isEmpty()) {
+            sent = sendRequests(URI.create("http://localhost:" + port + "/"), targets, deadline);
+        }
+
+        log.info("Read path warm-up: {} popular articles and 1 listing page pre-serialized, {} requests in {} ms",
+            hot.size(), sent, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<String> popularIds() {
+        Set<String> ids = new LinkedHashSet<>(configuredIds);
+        ids.addAll(articleRepository.hottestIds(hotArticles));
+        return ids.stream().limit(hotArticles).toList();
+    }
+
+    /**
+     * Round-trips one article of each model so Jackson builds its record
+     * serializers and deserializers now rather than on the first request
+     * or import.
+     */
+    private void introspect(List<Article> page) throws IOException {
+        if (!page.isEmpty()) {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(page.get(0)), Article.class);
+        }
+        ArticleV2 sample = ArticleV2.builder()
+            .id("warmup")
+            .slug("warmup")
+            .title("Warm-up")
+            .body(List.of(Content.RichText.plain("Warm-up")))
+            .build();
+        objectMapper.readValue(objectMapper.writeValueAsBytes(sample), ArticleV2.class);
+    }
+
+    private int sendRequests(URI baseUri, List<String> ids, long deadline) {
+        int sent = 0;
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build()) {
+            for (; sent < requests && System.nanoTime() < deadline; sent++) {
+                HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(warmupPath(sent, ids)))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Accept-Encoding", "gzip");
+                if (sent % 4 == 3) {
+                    request.header("Accept", "application/cbor");
+                }
+                client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            }
+        } catch (IOException e) {
+            log.warn("Read path warm-up stopped early: {}", e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sent;
+    }
+
+    private static String warmupPath(int i, List<String> ids) {
+        if (i % 10 == 9) {
+            return "api/articles";
+        }
+        if (i % 10 == 8) {
+            return "api/articles/warmup-missing";
+        }
+        return "api/articles/" + ids.get(i % ids.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.anthropic.articleservice.syndication;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fragments of RSS 2.0 and Atom 1.0 documents.
+ */
+final class FeedXml {
+
+    static final byte[] RSS_CLOSE = bytes("</channel>\n</rss>\n");
+    static final byte[] ATOM_CLOSE = bytes("</feed>\n");
+
+    private FeedXml() {}
+
+    static byte[] rssOpen(String title, String siteUrl, String lastBuildDate) {
+        return bytes("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<rss version=\"2.0\" xmlns:atom=\"http://www.w3.org/2005/Atom\">\n<channel>\n"
+            + "  <title>" + Xml.escape(title) + "</title>\n"
+            + "  <link>" + Xml.escape(siteUrl) + "</link>\n"
+            + "  <description>" + Xml.escape(title) + "</description>\n"
+            + "  <atom:link href=\"" + Xml.escape(siteUrl + "/feed.rss") + "\" rel=\"self\" type=\"application/rss+xml\"/>\n"
+            + "  <lastBuildDate>" + lastBuildDate + "</lastBuildDate>\n");
+    }
+
+    static byte[] rssItem(String url, String title, String summary, String pubDate) {
+        StringBuilder item = new StringBuilder(256)
+            .append("  <item><title>").append(Xml.escape(title)).append("</title>")
+            .append("<link>").append(Xml.escape(url)).append("</link>")
+            .append("<guid isPermaLink=\"true\">").append(Xml.escape(url)).append("</guid>")
+            .append("<pubDate>").append(pubDate).append("</pubDate>");
+        if (summary != null) {
+            item.append("<description>").append(Xml.escape(summary)).append("</description>");
+        }
+        return bytes(item.append("</item>\n").toString());
+    }
+
+    static byte[] atomOpen(String title, String siteUrl, String updated) {
+        return bytes("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<feed xmlns=\"http://www.w3.org/2005/Atom\">\n"
+            + "  <title>" + Xml.escape(title) + "</title>\n"
+            + "  <id>" + Xml.escape(siteUrl + "/") + "</id>\n"
+            + "  <link href=\"" + Xml.escape(siteUrl) + "\"/>\n"
+            + "  <link href=\"" + Xml.escape(siteUrl + "/atom.xml") + "\" rel=\"self\"/>\n"
+            + "  <updated>" + updated + "</updated>\n");
+    }
+
+    static byte[] atomEntry(String url, String title, String summary, String author, String updated) {
+        StringBuilder entry = new StringBuilder(256)
+            .append("  <entry><title>").append(Xml.escape(title)).append("</title>")
+            .append("<id>").append(Xml.escape(url)).append("</id>")
+            .append("<link href=\"").append(Xml.escape(url)).append("\"/>")
+            .append("<updated>").append(updated).append("</updated>");
+        if (author != null) {
+            entry.append("<author><name>").append(Xml.escape(author)).append("</name></author>");
+        }
+        if (summary != null) {
+            entry.append("<summary>").append(Xml.escape(summary)).append("</summary>");
+        }
+        return bytes(entry.append("</entry>\n").toString());
+    }
+
+    private static byte[] bytes(String xml) {
+        return xml.getBytes(StandardCharsets.UTF_8);
+    }
+}
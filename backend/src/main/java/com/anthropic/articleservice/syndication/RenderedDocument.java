@@ -0,0 +1,7 @@
+package com.anthropic.articleservice.syndication;
+
+/**
+ * A pre-rendered XML document. The ETag is a hash of the bytes, so it only
+ * changes when the content does and survives restarts.
+ */
+public record RenderedDocument(String etag, byte[] body) {}
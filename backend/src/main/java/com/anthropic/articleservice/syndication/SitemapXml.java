@@ -0,0 +1,33 @@
+package com.anthropic.articleservice.syndication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Fragments of the sitemaps.org protocol.
+ */
+final class SitemapXml {
+
+    static final byte[] URLSET_OPEN = bytes(
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+    static final byte[] URLSET_CLOSE = bytes("</urlset>\n");
+    static final byte[] INDEX_OPEN = bytes(
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+    static final byte[] INDEX_CLOSE = bytes("</sitemapindex>\n");
+
+    private SitemapXml() {}
+
+    static byte[] url(String loc, Instant lastModified) {
+        return bytes("  <url><loc>" + Xml.escape(loc) + "</loc><lastmod>" + lastModified + "</lastmod></url>\n");
+    }
+
+    static byte[] sitemapRef(String loc, Instant lastModified) {
+        return bytes("  <sitemap><loc>" + Xml.escape(loc) + "</loc><lastmod>" + lastModified + "</lastmod></sitemap>\n");
+    }
+
+    private static byte[] bytes(String xml) {
+        return xml.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,378 @@
+package com.anthropic.articleservice.syndication;
+
+import com.anthropic.articleservice.model.newmodel.ArticleV2;
+import com.anthropic.articleservice.model.newmodel.ArticleV2.PublishingInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Sitemap and RSS/Atom documents for published, public V2 articles.
+ *
+ * <p>The XML fragment for each article is rendered once when the article is
+ * saved. Documents are concatenations of those fragments and are kept as
+ * bytes; a save only marks the sitemap shard holding the article as stale,
+ * and the feeds only when their newest entries actually changed. Stale
+ * documents are re-rendered on their next request, so crawlers never cause
+ * a walk over the catalogue.</p>
+ *
+ * <p>Articles are assigned to the first sitemap shard with room and keep
+ * that shard, so adding articles does not reshuffle existing shards. Past
+ * one shard, {@code /sitemap.xml} becomes a sitemap index listing the
+ * shards that have URLs; an emptied shard is left out until it is
+ * refilled.</p>
+ */
+@Component
+public class SyndicationIndex {
+
+    private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+        .comparing(Entry::updatedAt, Comparator.reverseOrder())
+        .thenComparing(Entry::id);
+
+    private final String baseUrl;
+    private final String siteTitle;
+    private final int maxUrlsPerShard;
+    private final int feedSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> newest = new TreeSet<>(NEWEST_FIRST);
+    private final List<Shard> shards = new ArrayList<>();
+    private final Map<String, Shard> shardOf = new HashMap<>();
+
+    private List<Entry> feedEntries = List.of();
+    private volatile RenderedDocument sitemap;
+    private volatile RenderedDocument rss;
+    private volatile RenderedDocument atom;
+
+    public SyndicationIndex(
+            @Value("${articles.site.base-url:http://localhost:8080}") String baseUrl,
+            @Value("${articles.site.title:Articles}") String siteTitle,
+            @Value("${articles.sitemap.max-urls-per-shard:50000}") int maxUrlsPerShard,
+            @Value("${articles.syndication.feed-size:50}") int feedSize) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.siteTitle = siteTitle;
+        this.maxUrlsPerShard = maxUrlsPerShard;
+        this.feedSize = feedSize;
+    }
+
+    /**
+     * Applies a saved batch. Articles that are no longer published and
+     * public are dropped from every document.
+     */
+    public void update(Collection<ArticleV2> batch) {
+        lock.lock();
+        try {
+            for (ArticleV2 article : batch) {
+                Entry entry = isListed(article) ? toEntry(article) : null;
+                Entry previous = entries.get(article.id());
+                if (entry == null) {
+                    if (previous != null) {
+                        removeEntry(previous);
+                    }
+                } else if (previous == null || !previous.sameContent(entry)) {
+                    putEntry(previous, entry);
+                }
+            }
+            refreshFeeds();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(String articleId) {
+        lock.lock();
+        try {
+            Entry previous = entries.get(articleId);
+            if (previous != null) {
+                removeEntry(previous);
+                refreshFeeds();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The sitemap, or the sitemap index once there is more than one shard.
+     */
+    public RenderedDocument sitemap() {
+        RenderedDocument document = sitemap;
+        return document != null ? document : render(() -> sitemap, this::renderSitemap);
+    }
+
+    /**
+     * One shard of a split sitemap, numbered from 1.
+     */
+    public Optional<RenderedDocument> sitemapShard(int number) {
+        lock.lock();
+        try {
+            if (number < 1 || number > shards.size() || shards.get(number - 1).size() == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(shards.get(number - 1).document());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RenderedDocument rss() {
+        RenderedDocument document = rss;
+        return document != null ? document : render(() -> rss, this::renderRss);
+    }
+
+    public RenderedDocument atom() {
+        RenderedDocument document = atom;
+        return document != null ? document : render(() -> atom, this::renderAtom);
+    }
+
+    private RenderedDocument render(Supplier<RenderedDocument> current, Supplier<RenderedDocument> renderer) {
+        lock.lock();
+        try {
+            RenderedDocument document = current.get();
+            return document != null ? document : renderer.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isListed(ArticleV2 article) {
+        PublishingInfo publishing = article.publishing();
+        return publishing != null
+            && publishing.status() == PublishingInfo.Status.PUBLISHED
+            && publishing.visibility() == PublishingInfo.Visibility.PUBLIC
+            && article.slug() != null;
+    }
+
+    private Entry toEntry(ArticleV2 article) {
+        Instant updatedAt = article.timestamps() != null && article.timestamps().updatedAt() != null
+            ? article.timestamps().updatedAt()
+            : Instant.EPOCH;
+        String url = baseUrl + "/articles/" + article.slug();
+        String summary = article.metadata() != null ? article.metadata().excerpt() : article.subtitle();
+        String author = article.authors() != null && !article.authors().isEmpty()
+            ? article.authors().get(0).name()
+            : null;
+        return new Entry(article.id(), updatedAt, url, article.title(), summary, author);
+    }
+
+    private void putEntry(Entry previous, Entry entry) {
+        if (previous != null) {
+            newest.remove(previous);
+        }
+        entries.put(entry.id(), entry);
+        newest.add(entry);
+
+        Shard shard = shardOf.get(entry.id());
+        if (shard == null) {
+            shard = shardWithRoom();
+            shardOf.put(entry.id(), shard);
+            if (shards.size() > 1) {
+                sitemap = null;
+            }
+        }
+        Instant lastModified = shard.lastModified();
+        shard.put(entry);
+        // A single shard is the sitemap itself; an index only lists shard lastmod dates
+        if (shards.size() == 1 || !lastModified.equals(shard.lastModified())) {
+            sitemap = null;
+        }
+    }
+
+    private void removeEntry(Entry previous) {
+        entries.remove(previous.id());
+        newest.remove(previous);
+        Shard shard = shardOf.remove(previous.id());
+        shard.remove(previous.id());
+        if (shards.size() == 1 || shard.size() == 0) {
+            sitemap = null;
+        }
+    }
+
+    private Shard shardWithRoom() {
+        for (Shard shard : shards) {
+            if (shard.size() < maxUrlsPerShard) {
+                return shard;
+            }
+        }
+        Shard shard = new Shard(shards.size() + 1);
+        shards.add(shard);
+        sitemap = null;
+        return shard;
+    }
+
+    /**
+     * Marks the feeds stale only if their newest entries are no longer the
+     * same entry instances they were rendered from.
+     */
+    private void refreshFeeds() {
+        List<Entry> current = new ArrayList<>(feedSize);
+        Iterator<Entry> it = newest.iterator();
+        while (it.hasNext() && current.size() < feedSize) {
+            current.add(it.next());
+        }
+        boolean changed = current.size() != feedEntries.size();
+        for (int i = 0; !changed && i < current.size(); i++) {
+            changed = current.get(i) != feedEntries.get(i);
+        }
+        if (changed) {
+            feedEntries = List.copyOf(current);
+            rss = null;
+            atom = null;
+        }
+    }
+
+    private RenderedDocument renderSitemap() {
+        if (shards.size() <= 1) {
+            RenderedDocument document = shards.isEmpty()
+                ? rendered(concat(SitemapXml.URLSET_OPEN, List.of(), SitemapXml.URLSET_CLOSE))
+                : shards.get(0).document();
+            sitemap = document;
+            return document;
+        }
+        List<byte[]> refs = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            if (shard.size() == 0) {
+                continue;
+            }
+            refs.add(SitemapXml.sitemapRef(baseUrl + "/sitemap-" + shard.number + ".xml", shard.lastModified()));
+        }
+        RenderedDocument document = rendered(concat(SitemapXml.INDEX_OPEN, refs, SitemapXml.INDEX_CLOSE));
+        sitemap = document;
+        return document;
+    }
+
+    private RenderedDocument renderRss() {
+        List<byte[]> items = feedEntries.stream().map(Entry::rssItem).toList();
+        Instant lastBuild = feedEntries.isEmpty() ? Instant.EPOCH : feedEntries.get(0).updatedAt();
+        byte[] open = FeedXml.rssOpen(siteTitle, baseUrl, RFC_1123.format(lastBuild));
+        RenderedDocument document = rendered(concat(open, items, FeedXml.RSS_CLOSE));
+        rss = document;
+        return document;
+    }
+
+    private RenderedDocument renderAtom() {
+        List<byte[]> items = feedEntries.stream().map(Entry::atomEntry).toList();
+        Instant updated = feedEntries.isEmpty() ? Instant.EPOCH : feedEntries.get(0).updatedAt();
+        byte[] open = FeedXml.atomOpen(siteTitle, baseUrl, updated.toString());
+        RenderedDocument document = rendered(concat(open, items, FeedXml.ATOM_CLOSE));
+        atom = document;
+        return document;
+    }
+
+    private static RenderedDocument rendered(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return new RenderedDocument("\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"", body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] concat(byte[] open, Collection<byte[]> fragments, byte[] close) {
+        int size = open.length + close.length;
+        for (byte[] fragment : fragments) {
+            size += fragment.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.writeBytes(open);
+        fragments.forEach(out::writeBytes);
+        out.writeBytes(close);
+        return out.toByteArray();
+    }
+
+    /**
+     * One listed article with its fragments rendered up front.
+     */
+    private record Entry(
+        String id,
+        Instant updatedAt,
+        String url,
+        String title,
+        String summary,
+        String author,
+        byte[] urlFragment,
+        byte[] rssItem,
+        byte[] atomEntry
+    ) {
+        Entry(String id, Instant updatedAt, String url, String title, String summary, String author) {
+            this(id, updatedAt, url, title, summary, author,
+                SitemapXml.url(url, updatedAt),
+                FeedXml.rssItem(url, title, summary, RFC_1123.format(updatedAt)),
+                FeedXml.atomEntry(url, title, summary, author, updatedAt.toString()));
+        }
+
+        boolean sameContent(Entry other) {
+            return updatedAt.equals(other.updatedAt)
+                && url.equals(other.url)
+                && Objects.equals(title, other.title)
+                && Objects.equals(summary, other.summary)
+                && Objects.equals(author, other.author);
+        }
+    }
+
+    private final class Shard {
+        final int number;
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        RenderedDocument document;
+        Instant lastModified = Instant.EPOCH;
+
+        Shard(int number) {
+            this.number = number;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        Instant lastModified() {
+            return lastModified;
+        }
+
+        void put(Entry entry) {
+            entries.put(entry.id(), entry);
+            if (entry.updatedAt().isAfter(lastModified)) {
+                lastModified = entry.updatedAt();
+            }
+            document = null;
+        }
+
+        void remove(String id) {
+            entries.remove(id);
+            if (entries.isEmpty()) {
+                lastModified = Instant.EPOCH;
+            }
+            document = null;
+        }
+
+        RenderedDocument document() {
+            if (document == null) {
+                List<byte[]> urls = entries.values().stream().map(Entry::urlFragment).toList();
+                document = rendered(concat(SitemapXml.URLSET_OPEN, urls, SitemapXml.URLSET_CLOSE));
+            }
+            return document;
+        }
+    }
+}
@@ -409,6 +409,22 @@ app.get("/articles/opus-4-5", (req, res) => {
   res.status(500).render("500");
 });
 
+// Server-highlighted code sections keyed by section index. Sections still
+// being highlighted, or a backend that doesn't answer, render as plain code.
+async function fetchHighlights(articleId) {
+  try {
+    const response = await fetch(
+      `http://localhost:8080/api/articles/${articleId}/highlights`,
+    );
+    if (response.ok) {
+      return await response.json();
+    }
+  } catch (error) {
+    console.log("Code highlights not available");
+  }
+  return {};
+}
+
 // Article pages - fetches content from Java backend with Node.js fallback
 app.get("/articles/:id", async (req, res) => {
   const articleId = req.params.id;
@@ -420,7 +436,8 @@ app.get("/articles/:id", async (req, res) => {
     );
     if (response.ok) {
       const article = await response.json();
-      return res.render("article", { article });
+      const highlights = await fetchHighlights(articleId);
+      return res.render("article", { article, highlights });
     }
   } catch (error) {
     console.log("Java backend not available, using fallback");
@@ -432,7 +449,7 @@ app.get("/articles/:id", async (req, res) => {
     return res.status(404).render("404");
   }
 
-  res.render("article", { article });
+  res.render("article", { article, highlights: {} });
 });
 
 // API endpoint for articles (Node.js fallback)